@@ -0,0 +1,25 @@
+plugins {
+    id("cmds.base-conventions")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":triumph-cmd-simple"))
+    jmh(libs.jol)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+
+    // Filter benchmarks with -Pjmh.includes=Dispatch
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(it.split(',')) }
+
+    // The GC profiler reports allocation rate and bytes allocated per operation (gc.alloc.rate.norm).
+    // Other profilers can be added with -Pjmh.profilers=gc,stack or -Pjmh.profilers=gc,jfr
+    profilers.set(providers.gradleProperty("jmh.profilers").orElse("gc").map { it.split(',') })
+
+    fork.set(2)
+    warmupIterations.set(5)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.NamedArguments;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.Split;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.argument.named.Arguments;
+import dev.triumphteam.cmd.core.flag.Flags;
+
+import java.util.List;
+
+/**
+ * Command used by the dispatch benchmarks, one sub command per kind of argument.
+ * Every sub command stores what it received so the work can't be eliminated.
+ */
+@Command("bench")
+public final class BenchmarkCommand extends BaseCommand {
+
+    public Object last;
+
+    @SubCommand("ping")
+    public void ping(final BenchmarkSender sender) {
+        last = sender;
+    }
+
+    @SubCommand("int")
+    public void integer(final BenchmarkSender sender, final int value) {
+        last = value;
+    }
+
+    @SubCommand("ints")
+    public void integers(final BenchmarkSender sender, final int first, final int second, final int third, final int fourth) {
+        last = first + second + third + fourth;
+    }
+
+    @SubCommand("mixed")
+    public void mixed(final BenchmarkSender sender, final String name, final double amount, final boolean flag, @Optional final Long extra) {
+        last = name;
+    }
+
+    @SubCommand("enum")
+    public void enumeration(final BenchmarkSender sender, final Fixtures.Color color) {
+        last = color;
+    }
+
+    @SubCommand("list")
+    public void list(final BenchmarkSender sender, final List<Integer> values) {
+        last = values;
+    }
+
+    @SubCommand("split")
+    public void split(final BenchmarkSender sender, @Split(",") final List<Integer> values) {
+        last = values;
+    }
+
+    @SubCommand("join")
+    public void join(final BenchmarkSender sender, @Join final String message) {
+        last = message;
+    }
+
+    @SubCommand("flags")
+    @Flag(flag = "s", longFlag = "silent")
+    @Flag(flag = "a", longFlag = "amount", argument = int.class)
+    public void flags(final BenchmarkSender sender, final Flags flags) {
+        last = flags;
+    }
+
+    @SubCommand("named")
+    @NamedArguments("bench")
+    public void named(final BenchmarkSender sender, final Arguments arguments) {
+        last = arguments;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end {@link SimpleCommandManager#executeCommand} benchmarks, from the raw arguments to the method invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatchBenchmark {
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+
+    private SimpleCommandManager<BenchmarkSender> manager;
+
+    private final List<String> ping = Fixtures.args("bench ping");
+    private final List<String> integers = Fixtures.args("bench ints 1 2 3 4");
+    private final List<String> flags = Fixtures.args("bench flags -s --amount 10");
+    private final List<String> named = Fixtures.args("bench named amount:10 target:someone values:1,2,3");
+    private final List<String> unknownSubCommand = Fixtures.args("bench unknown");
+    private final List<String> unknownCommand = Fixtures.args("unknown ping");
+    private final List<String> invalidArgument = Fixtures.args("bench int abc");
+
+    @Setup
+    public void setup() {
+        manager = Fixtures.createManager();
+        manager.registerCommand(new BenchmarkCommand());
+    }
+
+    @Benchmark
+    public void noArguments() {
+        manager.executeCommand(sender, ping);
+    }
+
+    @Benchmark
+    public void fourIntegers() {
+        manager.executeCommand(sender, integers);
+    }
+
+    @Benchmark
+    public void flags() {
+        manager.executeCommand(sender, flags);
+    }
+
+    @Benchmark
+    public void namedArguments() {
+        manager.executeCommand(sender, named);
+    }
+
+    @Benchmark
+    public void unknownSubCommand() {
+        manager.executeCommand(sender, unknownSubCommand);
+    }
+
+    @Benchmark
+    public void unknownCommand() {
+        manager.executeCommand(sender, unknownCommand);
+    }
+
+    @Benchmark
+    public void invalidArgument() {
+        manager.executeCommand(sender, invalidArgument);
+    }
+}
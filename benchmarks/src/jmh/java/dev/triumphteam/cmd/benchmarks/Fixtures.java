@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.argument.named.Argument;
+import dev.triumphteam.cmd.core.argument.named.ArgumentKey;
+import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.sender.SenderMapper;
+import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shared setup for the benchmarks, nothing here depends on a platform.
+ */
+public final class Fixtures {
+
+    public static final ArgumentKey NAMED_KEY = ArgumentKey.of("bench");
+
+    private Fixtures() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Creates a manager with every message registered, so failing dispatches still do the same work as on a platform.
+     *
+     * @return A new {@link SimpleCommandManager}.
+     */
+    public static @NotNull SimpleCommandManager<BenchmarkSender> createManager() {
+        final SimpleCommandManager<BenchmarkSender> manager = SimpleCommandManager.create(SenderMapper.defaultMapper(), new Validator());
+        manager.registerMessage(MessageKey.UNKNOWN_COMMAND, (sender, context) -> sender.sendMessage());
+        manager.registerMessage(MessageKey.TOO_MANY_ARGUMENTS, (sender, context) -> sender.sendMessage());
+        manager.registerMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, (sender, context) -> sender.sendMessage());
+        manager.registerMessage(MessageKey.INVALID_ARGUMENT, (sender, context) -> sender.sendMessage());
+        manager.registerNamedArguments(
+                NAMED_KEY,
+                Argument.forInt().name("amount").build(),
+                Argument.forString().name("target").build(),
+                Argument.listOf(Integer.class).name("values").build()
+        );
+        return manager;
+    }
+
+    /**
+     * Splits a command line the same way a platform would.
+     *
+     * @param line The command line.
+     * @return The arguments.
+     */
+    public static @NotNull List<@NotNull String> args(final @NotNull String line) {
+        return Collections.unmodifiableList(Arrays.asList(line.split(" ")));
+    }
+
+    public enum Color {
+        RED, GREEN, BLUE, CYAN, MAGENTA, YELLOW, BLACK, WHITE, ORANGE, PURPLE, PINK, BROWN, GRAY, LIME, NAVY, TEAL
+    }
+
+    private static final class Validator implements SenderValidator<BenchmarkSender> {
+
+        @Override
+        public @NotNull Set<Class<? extends BenchmarkSender>> getAllowedSenders() {
+            return Collections.singleton(BenchmarkSender.class);
+        }
+
+        @Override
+        public boolean validate(
+                final @NotNull MessageRegistry<BenchmarkSender> messageRegistry,
+                final @NotNull SubCommand<BenchmarkSender> subCommand,
+                final @NotNull BenchmarkSender sender
+        ) {
+            return true;
+        }
+    }
+}
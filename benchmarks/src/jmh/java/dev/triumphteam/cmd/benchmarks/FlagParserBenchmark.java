@@ -0,0 +1,91 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import com.google.common.primitives.Ints;
+import dev.triumphteam.cmd.core.argument.ResolverInternalArgument;
+import dev.triumphteam.cmd.core.flag.Flags;
+import dev.triumphteam.cmd.core.flag.internal.FlagGroup;
+import dev.triumphteam.cmd.core.flag.internal.FlagOptions;
+import dev.triumphteam.cmd.core.flag.internal.FlagParser;
+import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FlagParser} on its own, without the rest of the dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FlagParserBenchmark {
+
+    @Param({
+            "-s",
+            "-s --amount 10 some text after",
+            "--amount=10 -s -v text -q other -x --long",
+            "no flags at all, only text"
+    })
+    public String line;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+
+    private FlagParser<BenchmarkSender> parser;
+    private List<String> args;
+
+    @Setup
+    public void setup() {
+        final FlagGroup<BenchmarkSender> group = new FlagGroup<>();
+        group.addFlag(new FlagOptions<>("s", "silent", null));
+        group.addFlag(new FlagOptions<>("v", "verbose", null));
+        group.addFlag(new FlagOptions<>("q", "quiet", null));
+        group.addFlag(new FlagOptions<>("x", "long", null));
+        group.addFlag(new FlagOptions<>("a", "amount", new ResolverInternalArgument<>(
+                "amount",
+                "",
+                int.class,
+                (sender, arg) -> Ints.tryParse(arg),
+                new EmptySuggestion<>(),
+                0,
+                false
+        )));
+
+        parser = new FlagParser<>(group);
+        args = Fixtures.args(line);
+    }
+
+    @Benchmark
+    public Flags parse() {
+        return parser.parse(sender, args);
+    }
+}
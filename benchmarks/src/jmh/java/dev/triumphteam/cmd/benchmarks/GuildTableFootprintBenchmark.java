@@ -0,0 +1,111 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory used by a guild command table, one command per guild.
+ * {@code HashMap} is the old layout, boxed guild ids with a {@code HashMap} per guild,
+ * {@code LongObjectMap} is the current one, primitive guild ids with a {@link SnapshotMap} per guild.
+ * The retained size of a full table, measured with JOL, is reported as the {@code retainedBytes} counter,
+ * run with {@code -Pjmh.includes=GuildTableFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GuildTableFootprintBenchmark {
+
+    private static final String COMMAND_NAME = "ping";
+    private static final Object COMMAND = new Object();
+
+    @Param({"50000"})
+    public int guilds;
+
+    @Param({"HashMap", "LongObjectMap"})
+    public String table;
+
+    private long[] guildIds;
+    private long retainedBytes;
+
+    @Setup
+    public void setup() {
+        // Discord ids are snowflakes, far out of the boxed Long cache
+        final SplittableRandom random = new SplittableRandom(42);
+        guildIds = new long[guilds];
+        for (int i = 0; i < guilds; i++) {
+            guildIds[i] = (1L << 50) + random.nextLong(1L << 50);
+        }
+
+        retainedBytes = GraphLayout.parseInstance(build()).totalSize();
+    }
+
+    @Benchmark
+    public Object fill(final Footprint footprint) {
+        footprint.retainedBytes = retainedBytes;
+        return build();
+    }
+
+    private Object build() {
+        if (table.equals("HashMap")) {
+            final Map<Long, Map<String, Object>> commands = new HashMap<>();
+            for (final long guildId : guildIds) {
+                commands.computeIfAbsent(guildId, ignored -> new HashMap<>()).put(COMMAND_NAME, COMMAND);
+            }
+            return commands;
+        }
+
+        final LongObjectMap<SnapshotMap<String, Object>> commands = new LongObjectMap<>();
+        for (final long guildId : guildIds) {
+            commands.computeIfAbsent(guildId, ignored -> new SnapshotMap<>()).put(COMMAND_NAME, COMMAND);
+        }
+        return commands;
+    }
+
+    /**
+     * Reports the retained size of one full table next to the timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time it takes to register N commands into a fresh manager.
+ * Each command is a copy of {@link BenchmarkCommand} with a different name, so all of them are fully processed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistrationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int commands;
+
+    private final List<BaseCommand> baseCommands = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        baseCommands.clear();
+        for (int i = 0; i < commands; i++) {
+            baseCommands.add(new NamedCommand("bench-" + i));
+        }
+    }
+
+    @Benchmark
+    public SimpleCommandManager<BenchmarkSender> register() {
+        final SimpleCommandManager<BenchmarkSender> manager = Fixtures.createManager();
+        for (final BaseCommand baseCommand : baseCommands) {
+            manager.registerCommand(baseCommand);
+        }
+        return manager;
+    }
+
+    @Benchmark
+    public SimpleCommandManager<BenchmarkSender> registerParallel() {
+        final SimpleCommandManager<BenchmarkSender> manager = Fixtures.createManager();
+        manager.registerCommandsParallel(baseCommands);
+        return manager;
+    }
+
+    public static final class NamedCommand extends BaseCommand {
+
+        public Object last;
+
+        public NamedCommand(final String name) {
+            super(name);
+        }
+
+        @SubCommand("int")
+        public void integer(final BenchmarkSender sender, final int value) {
+            last = value;
+        }
+
+        @SubCommand("mixed")
+        public void mixed(final BenchmarkSender sender, final String name, final double amount, final boolean flag) {
+            last = name;
+        }
+
+        @SubCommand("enum")
+        public void enumeration(final BenchmarkSender sender, final Fixtures.Color color) {
+            last = color;
+        }
+
+        @SubCommand("list")
+        public void list(final BenchmarkSender sender, final List<Integer> values) {
+            last = values;
+        }
+    }
+}
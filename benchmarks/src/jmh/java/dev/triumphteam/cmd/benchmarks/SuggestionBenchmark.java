@@ -0,0 +1,82 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.suggestion.EnumSuggestion;
+import dev.triumphteam.cmd.core.suggestion.SimpleSuggestion;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtering done by {@link SimpleSuggestion} and {@link EnumSuggestion} for the current input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuggestionBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"", "pl", "player_99"})
+    public String current;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private final SuggestionContext context = new SuggestionContext(Collections.emptyList(), "bench", "suggest");
+
+    private SimpleSuggestion<BenchmarkSender> simpleSuggestion;
+    private EnumSuggestion<BenchmarkSender> enumSuggestion;
+
+    @Setup
+    public void setup() {
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) values.add("player_" + i);
+        final List<String> suggestions = Collections.unmodifiableList(values);
+
+        simpleSuggestion = new SimpleSuggestion<>((sender, context) -> suggestions);
+        enumSuggestion = new EnumSuggestion<>(Fixtures.Color.class);
+    }
+
+    @Benchmark
+    public List<String> simple() {
+        return simpleSuggestion.getSuggestions(sender, current, context);
+    }
+
+    @Benchmark
+    public List<String> enumeration() {
+        return enumSuggestion.getSuggestions(sender, current, context);
+    }
+}
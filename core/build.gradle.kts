@@ -3,6 +3,11 @@ plugins {
     id("cmds.library-conventions")
 }
 
+// Java 11+ classes, packaged as a multi-release section so the Java 8 baseline keeps working.
+val java11: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java11")
+}
+
 dependencies {
     testImplementation(kotlin("stdlib"))
     testImplementation(libs.junit.api)
@@ -10,10 +15,27 @@ dependencies {
     testImplementation(libs.assertj)
 
     compileOnly(libs.guava)
+
+    "java11CompileOnly"("org.jetbrains:annotations:23.0.0")
+    "java11CompileOnly"(sourceSets.main.get().output)
 }
 
 tasks {
     test {
         useJUnitPlatform()
     }
-}
\ No newline at end of file
+
+    named<JavaCompile>(java11.compileJavaTaskName) {
+        options.release.set(11)
+    }
+
+    jar {
+        into("META-INF/versions/11") {
+            from(java11.output)
+        }
+
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+}
@@ -25,26 +25,28 @@ package dev.triumphteam.cmd.core;
 
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
+import dev.triumphteam.cmd.core.descriptor.MethodInvoker;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
+import dev.triumphteam.cmd.core.exceptions.SubCommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
-import dev.triumphteam.cmd.core.argument.StringInternalArgument;
-import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.jfr.CommandEvent;
+import dev.triumphteam.cmd.core.jfr.CommandEvents;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
-import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
-import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.metrics.DispatchStage;
+import dev.triumphteam.cmd.core.metrics.StageRecorder;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.requirement.Requirement;
-import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.result.CommandResult;
+import dev.triumphteam.cmd.core.result.InvalidArgumentResult;
+import dev.triumphteam.cmd.core.result.RequirementResult;
+import dev.triumphteam.cmd.core.sender.SenderCheck;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -57,40 +59,54 @@ import java.util.stream.Collectors;
 public abstract class AbstractSubCommand<S> implements SubCommand<S> {
 
     private final BaseCommand baseCommand;
-    private final Method method;
+    private final MethodInvoker invoker;
 
     private final String parentName;
     private final String name;
     private final List<String> alias;
     private final boolean isDefault;
+    private final boolean isAsync;
 
     private final Class<? extends S> senderType;
 
     private final List<InternalArgument<S, ?>> internalArguments;
+    private final ArgumentStage<S>[] argumentStages;
     private final Set<Requirement<S, ?>> requirements;
+    private final Requirement<S, ?>[] requirementChecks;
+
+    private final CommandResult notEnoughArguments;
+    private final CommandResult tooManyArguments;
+    private final CommandResult[] invalidArguments;
+    private final CommandResult[] failedRequirements;
 
     private final MessageRegistry<S> messageRegistry;
+    private final RegistryContainer<S> registryContainer;
     private final ExecutionProvider executionProvider;
 
-    private final SenderValidator<S> senderValidator;
+    private final SenderCheck<S> senderCheck;
 
     private final boolean hasArguments;
     private final boolean containsLimitless;
 
+    private final StageRecorder stageRecorder;
+    private final boolean recordStages;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public AbstractSubCommand(
             final @NotNull AbstractSubCommandProcessor<S> processor,
             final @NotNull String parentName,
             final @NotNull ExecutionProvider executionProvider
     ) {
         this.baseCommand = processor.getBaseCommand();
-        this.method = processor.getMethod();
+        this.invoker = processor.getInvoker();
         this.name = processor.getName();
         this.alias = processor.getAlias();
         this.internalArguments = processor.getArguments();
         this.requirements = processor.getRequirements();
         this.messageRegistry = processor.getMessageRegistry();
+        this.registryContainer = processor.getRegistryContainer();
         this.isDefault = processor.isDefault();
-        this.senderValidator = processor.getSenderValidator();
+        this.isAsync = processor.isAsync();
 
         this.senderType = processor.getSenderType();
 
@@ -99,7 +115,55 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
         this.executionProvider = executionProvider;
 
         this.hasArguments = !internalArguments.isEmpty();
-        this.containsLimitless = internalArguments.stream().anyMatch(LimitlessInternalArgument.class::isInstance);
+        this.argumentStages = compileArguments(processor);
+        this.containsLimitless = argumentStages.length > 0 && argumentStages[argumentStages.length - 1].isLimitless();
+
+        // Every expected failure is created here once and returned on each execution
+        this.notEnoughArguments = CommandResult.notEnoughArguments(parentName, name);
+        this.tooManyArguments = CommandResult.tooManyArguments(parentName, name);
+        this.invalidArguments = new CommandResult[argumentStages.length];
+        for (int i = 0; i < argumentStages.length; i++) {
+            final ArgumentStage<S> stage = argumentStages[i];
+            final InternalArgument<S, ?> argument = stage.getArgument();
+            invalidArguments[i] = new InvalidArgumentResult(parentName, name, i, argument.getName(), argument.getType(), stage.isLimitless());
+        }
+
+        this.requirementChecks = requirements.toArray(new Requirement[0]);
+        this.failedRequirements = new CommandResult[requirementChecks.length];
+        for (int i = 0; i < requirementChecks.length; i++) {
+            failedRequirements[i] = new RequirementResult<>(parentName, name, requirementChecks[i]);
+        }
+
+        final CommandMetrics metrics = registryContainer.getMetrics();
+        this.recordStages = metrics.isEnabled();
+        this.stageRecorder = metrics.recorder(parentName, name);
+
+        // Selected last, so the validator can already read the name and sender type
+        this.senderCheck = processor.getSenderValidator().prepare(messageRegistry, this);
+    }
+
+    /**
+     * Turns the arguments into the plan used on every execution, unsupported arguments are rejected here instead of when executing.
+     *
+     * @param processor The processor with the arguments.
+     * @return One stage per argument, in order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @NotNull ArgumentStage<S> @NotNull [] compileArguments(final @NotNull AbstractSubCommandProcessor<S> processor) {
+        final ArgumentStage<S>[] stages = new ArgumentStage[internalArguments.size()];
+        for (int i = 0; i < stages.length; i++) {
+            final ArgumentStage<S> stage = ArgumentStage.of(internalArguments.get(i), i);
+            if (stage == null) {
+                throw new SubCommandRegistrationException(
+                        "Found unsupported internalArgument",
+                        processor.getDescriptor().getMethodName(),
+                        baseCommand.getClass()
+                );
+            }
+            stages[i] = stage;
+        }
+
+        return stages;
     }
 
     /**
@@ -139,6 +203,16 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
         return name;
     }
 
+    /**
+     * Gets the aliases of the sub command.
+     *
+     * @return The sub command aliases.
+     */
+    @Override
+    public @NotNull List<@NotNull String> getAlias() {
+        return alias;
+    }
+
     @Override
     public boolean hasArguments() {
         return hasArguments;
@@ -154,37 +228,107 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
     }
 
     /**
-     * Executes the sub command.
+     * Gets the recorder for this sub command's dispatch stages.
+     *
+     * @return The stage recorder.
+     */
+    protected @NotNull StageRecorder getStageRecorder() {
+        return stageRecorder;
+    }
+
+    /**
+     * Whether the dispatch stages are being recorded.
+     *
+     * @return True if metrics are enabled.
+     */
+    protected boolean isRecordingStages() {
+        return recordStages;
+    }
+
+    /**
+     * Executes the sub command and hands any failure to the {@link dev.triumphteam.cmd.core.result.ResultHandler}.
      *
      * @param sender The sender.
      * @param args   The arguments to pass to the executor.
+     * @return The result of the execution.
      */
     @Override
-    public void execute(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
-        if (!senderValidator.validate(messageRegistry, this, sender)) return;
-        if (!meetRequirements(sender)) return;
-
-        // Creates the invoking arguments list
-        final List<Object> invokeArguments = new ArrayList<>();
-        invokeArguments.add(sender);
+    public @NotNull CommandResult execute(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
+        return execute(sender, new TypedArguments(args));
+    }
 
-        if (!validateAndCollectArguments(sender, invokeArguments, args)) {
-            return;
+    /**
+     * Executes the sub command with arguments the platform binds itself and hands any failure to the {@link dev.triumphteam.cmd.core.result.ResultHandler}.
+     *
+     * @param sender    The sender.
+     * @param arguments The arguments to bind into the command method.
+     * @return The result of the execution.
+     */
+    protected @NotNull CommandResult execute(final @NotNull S sender, final @NotNull BoundArguments<S> arguments) {
+        final CommandEvent dispatchEvent = CommandEvents.dispatch(parentName, name, senderType);
+        try {
+            final CommandResult result = dispatch(sender, arguments);
+            if (!result.isSuccess()) handleResult(sender, arguments.getTyped(), result);
+            return result;
+        } finally {
+            if (dispatchEvent != null) dispatchEvent.commit();
         }
+    }
 
-        if ((!containsLimitless) && args.size() >= invokeArguments.size()) {
-            messageRegistry.sendMessage(MessageKey.TOO_MANY_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
-            return;
-        }
+    /**
+     * Validates the sender, requirements and arguments and then hands the method invocation to the execution provider.
+     *
+     * @param sender    The sender.
+     * @param arguments The arguments to bind into the command method.
+     * @return The result, success once the invocation was handed to the execution provider.
+     */
+    private @NotNull CommandResult dispatch(final @NotNull S sender, final @NotNull BoundArguments<S> arguments) {
+        long start = recordStages ? System.nanoTime() : 0L;
+
+        if (!senderCheck.test(sender)) return CommandResult.invalidSender();
+        if (recordStages) start = recordStage(DispatchStage.SENDER_VALIDATION, start);
+
+        final CommandEvent requirementEvent = CommandEvents.requirementCheck(parentName, name, senderType);
+        final CommandResult requirementResult = checkRequirements(sender);
+        if (requirementEvent != null) requirementEvent.commit();
 
+        if (requirementResult != null) return requirementResult;
+        if (recordStages) start = recordStage(DispatchStage.REQUIREMENTS, start);
+
+        // Creates the invoking arguments, the sender always goes first
+        final Object[] invokeArguments = new Object[argumentStages.length + 1];
+        invokeArguments[0] = sender;
+
+        final CommandEvent argumentEvent = CommandEvents.argumentResolution(parentName, name, senderType);
+        final CommandResult argumentResult = arguments.bind(sender, invokeArguments);
+        if (argumentEvent != null) argumentEvent.commit();
+
+        if (argumentResult != null) return argumentResult;
+        if (recordStages) recordStage(DispatchStage.ARGUMENT_RESOLUTION, start);
+
+        final CommandEvent handOffEvent = isAsync ? CommandEvents.asyncHandOff(parentName, name, senderType) : null;
         executionProvider.execute(() -> {
+            if (handOffEvent != null) handOffEvent.commit();
+
+            final long invocationStart = recordStages ? System.nanoTime() : 0L;
             try {
-                method.invoke(baseCommand, invokeArguments.toArray());
-            } catch (IllegalAccessException | InvocationTargetException exception) {
-                throw new CommandExecutionException("An error occurred while executing the command", parentName, name)
-                        .initCause(exception instanceof InvocationTargetException ? exception.getCause() : exception);
+                invoker.invoke(baseCommand, invokeArguments);
+            } catch (final CommandExecutionException exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new CommandExecutionException(
+                        "An error occurred while executing the command",
+                        parentName,
+                        name,
+                        throwable,
+                        registryContainer.isDebug()
+                );
+            } finally {
+                if (recordStages) recordStage(DispatchStage.INVOCATION, invocationStart);
             }
         });
+
+        return CommandResult.success();
     }
 
     /**
@@ -217,125 +361,124 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
         return internalArguments.get(index);
     }
 
-    // TODO: 2/1/2022 Comments
-    public @NotNull List<@Nullable String> mapArguments(final @NotNull Map<@NotNull String, @NotNull String> args) {
-        final List<String> arguments = getArguments().stream().map(InternalArgument::getName).collect(Collectors.toList());
-        return arguments.stream().map(it -> {
-            final String value = args.get(it);
-            return value == null ? "" : value;
-        }).collect(Collectors.toList());
+    /**
+     * Gets the failure returned when a required argument is missing.
+     *
+     * @return The not enough arguments result.
+     */
+    protected @NotNull CommandResult getNotEnoughArguments() {
+        return notEnoughArguments;
+    }
+
+    /**
+     * Gets the failure returned when the argument at the given position can't be resolved.
+     *
+     * @param position The position of the argument.
+     * @return The invalid argument result.
+     */
+    protected @NotNull CommandResult getInvalidArgument(final int position) {
+        return invalidArguments[position];
     }
 
     /**
-     * Used for checking if the arguments are valid and adding them to the `invokeArguments`.
+     * Resolves the arguments and adds them to the `invokeArguments`.
      *
      * @param sender          The sender of the command.
-     * @param invokeArguments A list with the arguments that'll be used on the `invoke` of the command method.
+     * @param invokeArguments The arguments that'll be used on the `invoke` of the command method, filled from index 1.
      * @param commandArgs     The command arguments type.
-     * @return False if any internalArgument fails to pass.
+     * @return The failure of the first argument that didn't resolve, or null if all of them did and none were left over.
      */
-    @SuppressWarnings("unchecked")
-    private boolean validateAndCollectArguments(
+    private @Nullable CommandResult collectArguments(
             final @NotNull S sender,
-            final @NotNull List<@Nullable Object> invokeArguments,
+            final @Nullable Object @NotNull [] invokeArguments,
             final @NotNull List<@NotNull String> commandArgs
     ) {
-        for (int i = 0; i < internalArguments.size(); i++) {
-            final InternalArgument<S, ?> internalArgument = internalArguments.get(i);
-
-            if (internalArgument instanceof LimitlessInternalArgument) {
-                final LimitlessInternalArgument<S> limitlessArgument = (LimitlessInternalArgument<S>) internalArgument;
-                final List<String> leftOvers = leftOvers(commandArgs, i);
-
-                final Object result = limitlessArgument.resolve(sender, leftOvers);
-
-                if (result == null) {
-                    return false;
-                }
-
-                invokeArguments.add(result);
-                return true;
-            }
-
-            if (!(internalArgument instanceof StringInternalArgument)) {
-                throw new CommandExecutionException("Found unsupported internalArgument", parentName, name);
-            }
+        for (int i = 0; i < argumentStages.length; i++) {
+            final Object result = argumentStages[i].resolve(sender, commandArgs);
 
-            final StringInternalArgument<S> stringArgument = (StringInternalArgument<S>) internalArgument;
-            final String arg = valueOrNull(commandArgs, i);
+            if (result == ArgumentStage.MISSING) return notEnoughArguments;
+            if (result == ArgumentStage.INVALID) return invalidArguments[i];
 
-            if (arg == null || arg.isEmpty()) {
-                if (internalArgument.isOptional()) {
-                    invokeArguments.add(null);
-                    continue;
-                }
-
-                messageRegistry.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
-                return false;
-            }
-
-            final Object result = stringArgument.resolve(sender, arg);
-            if (result == null) {
-                messageRegistry.sendMessage(
-                        MessageKey.INVALID_ARGUMENT,
-                        sender,
-                        new InvalidArgumentContext(parentName, name, arg, internalArgument.getName(), internalArgument.getType())
-                );
-                return false;
-            }
+            invokeArguments[i + 1] = result;
+        }
 
-            invokeArguments.add(result);
+        if ((!containsLimitless) && commandArgs.size() > argumentStages.length) {
+            return tooManyArguments;
         }
 
-        return true;
+        return null;
     }
 
     /**
      * Checks if the requirements to run the command are met.
      *
      * @param sender The sender of the command.
-     * @return Whether all requirements are met.
+     * @return The failure of the first requirement that wasn't met, or null if all of them were.
      */
-    private boolean meetRequirements(final @NotNull S sender) {
-        for (final Requirement<S, ?> requirement : requirements) {
-            if (!requirement.isMet(sender)) {
-                requirement.sendMessage(messageRegistry, sender, parentName, name);
-                return false;
-            }
+    private @Nullable CommandResult checkRequirements(final @NotNull S sender) {
+        for (int i = 0; i < requirementChecks.length; i++) {
+            if (!requirementChecks[i].isMet(sender)) return failedRequirements[i];
         }
 
-        return true;
+        return null;
     }
 
     /**
-     * Gets an internalArgument value or null.
+     * Passes a failed result to the result handler, recording how long it took.
      *
-     * @param list  The list to check from.
-     * @param index The current index of the internalArgument.
-     * @return The internalArgument name or null.
+     * @param sender The sender.
+     * @param args   The arguments passed to the sub command.
+     * @param result The failed result.
      */
-    private @Nullable String valueOrNull(final @NotNull List<@NotNull String> list, final int index) {
-        if (index >= list.size()) return null;
-        return list.get(index);
+    private void handleResult(
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> args,
+            final @NotNull CommandResult result
+    ) {
+        final long start = recordStages ? System.nanoTime() : 0L;
+        registryContainer.getResultHandler().handle(sender, args, result);
+        if (recordStages) recordStage(DispatchStage.MESSAGE, start);
     }
 
     /**
-     * Gets the left over of the arguments.
+     * Records a stage that started at the given time and ended now.
      *
-     * @param list The list with all the arguments.
-     * @param from The index from which should start removing.
-     * @return A list with the leftover arguments.
+     * @param stage The stage.
+     * @param start When the stage started.
+     * @return The time the stage ended, to be used as the start of the next one.
      */
-    private @NotNull List<@NotNull String> leftOvers(final @NotNull List<@NotNull String> list, final int from) {
-        if (from > list.size()) return Collections.emptyList();
-        return list.subList(from, list.size());
+    private long recordStage(final @NotNull DispatchStage stage, final long start) {
+        final long now = System.nanoTime();
+        stageRecorder.record(stage, now - start);
+        return now;
+    }
+
+    /**
+     * Arguments typed as strings, resolved by the compiled argument stages.
+     */
+    private final class TypedArguments implements BoundArguments<S> {
+
+        private final List<String> args;
+
+        private TypedArguments(final @NotNull List<@NotNull String> args) {
+            this.args = args;
+        }
+
+        @Override
+        public @Nullable CommandResult bind(final @NotNull S sender, final @Nullable Object @NotNull [] invokeArguments) {
+            return collectArguments(sender, invokeArguments, args);
+        }
+
+        @Override
+        public @NotNull List<@NotNull String> getTyped() {
+            return args;
+        }
     }
 
     @Override
     public @NotNull String toString() {
         return "SimpleSubCommand{" +
                 "baseCommand=" + baseCommand +
-                ", method=" + method +
                 ", name='" + name + '\'' +
                 ", alias=" + alias +
                 ", isDefault=" + isDefault +
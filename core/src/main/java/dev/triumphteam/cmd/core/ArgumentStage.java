@@ -0,0 +1,161 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core;
+
+import dev.triumphteam.cmd.core.argument.InternalArgument;
+import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
+import dev.triumphteam.cmd.core.argument.StringInternalArgument;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single step of a sub command's argument plan.
+ * The kind of each argument is decided once when the sub command is built, so resolving is a plain loop over the stages.
+ *
+ * @param <S> The sender type.
+ */
+abstract class ArgumentStage<S> {
+
+    /**
+     * Returned when a required argument wasn't typed.
+     */
+    static final Object MISSING = new Object();
+    /**
+     * Returned when the typed argument couldn't be resolved.
+     */
+    static final Object INVALID = new Object();
+
+    private final InternalArgument<S, ?> argument;
+    protected final int index;
+
+    private ArgumentStage(final @NotNull InternalArgument<S, ?> argument, final int index) {
+        this.argument = argument;
+        this.index = index;
+    }
+
+    /**
+     * Creates the stage for the given argument.
+     *
+     * @param argument The argument.
+     * @param index    The position of the argument in the typed arguments.
+     * @return The stage, or null if the argument kind isn't supported.
+     */
+    @SuppressWarnings("unchecked")
+    static <S> @Nullable ArgumentStage<S> of(final @NotNull InternalArgument<S, ?> argument, final int index) {
+        if (argument instanceof LimitlessInternalArgument) {
+            return new Limitless<>((LimitlessInternalArgument<S>) argument, index);
+        }
+
+        if (!(argument instanceof StringInternalArgument)) return null;
+
+        final StringInternalArgument<S> stringArgument = (StringInternalArgument<S>) argument;
+        return argument.isOptional() ? new OptionalSingle<>(stringArgument, index) : new Single<>(stringArgument, index);
+    }
+
+    @NotNull InternalArgument<S, ?> getArgument() {
+        return argument;
+    }
+
+    boolean isLimitless() {
+        return false;
+    }
+
+    /**
+     * Resolves the argument from the typed arguments.
+     *
+     * @param sender The sender.
+     * @param args   All the typed arguments.
+     * @return The resolved value, {@link #MISSING} or {@link #INVALID}.
+     */
+    abstract @Nullable Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> args);
+
+    private static final class Single<S> extends ArgumentStage<S> {
+
+        private final StringInternalArgument<S> argument;
+
+        private Single(final @NotNull StringInternalArgument<S> argument, final int index) {
+            super(argument, index);
+            this.argument = argument;
+        }
+
+        @Override
+        @Nullable Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
+            if (index >= args.size()) return MISSING;
+            final String arg = args.get(index);
+            if (arg.isEmpty()) return MISSING;
+
+            final Object result = argument.resolve(sender, arg);
+            return result == null ? INVALID : result;
+        }
+    }
+
+    private static final class OptionalSingle<S> extends ArgumentStage<S> {
+
+        private final StringInternalArgument<S> argument;
+
+        private OptionalSingle(final @NotNull StringInternalArgument<S> argument, final int index) {
+            super(argument, index);
+            this.argument = argument;
+        }
+
+        @Override
+        @Nullable Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
+            if (index >= args.size()) return null;
+            final String arg = args.get(index);
+            if (arg.isEmpty()) return null;
+
+            final Object result = argument.resolve(sender, arg);
+            return result == null ? INVALID : result;
+        }
+    }
+
+    private static final class Limitless<S> extends ArgumentStage<S> {
+
+        private final LimitlessInternalArgument<S> argument;
+
+        private Limitless(final @NotNull LimitlessInternalArgument<S> argument, final int index) {
+            super(argument, index);
+            this.argument = argument;
+        }
+
+        @Override
+        boolean isLimitless() {
+            return true;
+        }
+
+        @Override
+        @Nullable Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
+            final Object result = argument.resolve(sender, leftOvers(args));
+            return result == null ? INVALID : result;
+        }
+
+        private @NotNull List<@NotNull String> leftOvers(final @NotNull List<@NotNull String> args) {
+            if (index > args.size()) return Collections.emptyList();
+            return args.subList(index, args.size());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core;
+
+import dev.triumphteam.cmd.core.result.CommandResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The arguments of a single execution, bound into the parameters of the command method.
+ * Platforms that receive typed values can bind them directly instead of going through strings.
+ *
+ * @param <S> The sender type.
+ */
+public interface BoundArguments<S> {
+
+    /**
+     * Fills the arguments used to invoke the command method, the sender is already at index 0.
+     *
+     * @param sender          The sender.
+     * @param invokeArguments The arguments of the command method, filled from index 1.
+     * @return The failure of the first argument that couldn't be bound, or null if all of them were.
+     */
+    @Nullable CommandResult bind(final @NotNull S sender, final @Nullable Object @NotNull [] invokeArguments);
+
+    /**
+     * Gets the arguments as the sender typed them, only used when handling failures.
+     *
+     * @return The typed arguments.
+     */
+    @NotNull List<@NotNull String> getTyped();
+}
@@ -34,7 +34,7 @@ import org.jetbrains.annotations.NotNull;
 public interface Command<S, SC extends SubCommand<S>> {
 
 
-    void addSubCommand(final @NotNull String name, final @NotNull SC subCommand);
+    void addSubCommand(final @NotNull String name, final @NotNull SubCommandHolder<S, SC> subCommand);
 
-    void addSubCommandAlias(final @NotNull String alias, final @NotNull SC subCommand);
+    void addSubCommandAlias(final @NotNull String alias, final @NotNull SubCommandHolder<S, SC> subCommand);
 }
@@ -26,20 +26,32 @@ package dev.triumphteam.cmd.core;
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
 import dev.triumphteam.cmd.core.argument.named.Argument;
 import dev.triumphteam.cmd.core.argument.named.ArgumentKey;
+import dev.triumphteam.cmd.core.descriptor.DescriptorSnapshotCache;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.message.ContextualKey;
 import dev.triumphteam.cmd.core.message.MessageResolver;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.metrics.RegistrationReport;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.requirement.RequirementKey;
 import dev.triumphteam.cmd.core.requirement.RequirementResolver;
+import dev.triumphteam.cmd.core.result.ResultHandler;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import dev.triumphteam.cmd.core.suggestion.SuggestionKey;
 import dev.triumphteam.cmd.core.suggestion.SuggestionResolver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Base command manager for all platforms.
@@ -79,6 +91,64 @@ public abstract class CommandManager<DS, S> {
         }
     }
 
+    /**
+     * Registers many {@link BaseCommand}s, processing them in parallel on the common pool.
+     *
+     * @param baseCommands The commands to be registered.
+     * @see #registerCommandsParallel(Collection, ForkJoinPool)
+     */
+    public final void registerCommandsParallel(final @NotNull Collection<? extends @NotNull BaseCommand> baseCommands) {
+        registerCommandsParallel(baseCommands, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Registers many {@link BaseCommand}s, processing them in parallel on the given pool.
+     * Only the processing runs on the pool, the results are then committed one by one on the calling thread,
+     * in the same order as the given collection, so conflicts resolve exactly like sequential registrations would.
+     * Registries must not be changed while this runs.
+     *
+     * @param baseCommands The commands to be registered.
+     * @param pool         The pool to process the commands on.
+     */
+    public final void registerCommandsParallel(
+            final @NotNull Collection<? extends @NotNull BaseCommand> baseCommands,
+            final @NotNull ForkJoinPool pool
+    ) {
+        final List<ForkJoinTask<Runnable>> tasks = new ArrayList<>(baseCommands.size());
+        for (final BaseCommand baseCommand : baseCommands) {
+            tasks.add(pool.submit(() -> prepareCommand(baseCommand)));
+        }
+
+        for (final ForkJoinTask<Runnable> task : tasks) {
+            final Runnable commit;
+            try {
+                commit = task.get();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new CommandRegistrationException("Interrupted while processing commands", exception);
+            } catch (final ExecutionException exception) {
+                final Throwable cause = exception.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new CommandRegistrationException("Failed to process command", cause);
+            }
+
+            commit.run();
+        }
+    }
+
+    /**
+     * Does all the processing of a command that doesn't touch the manager's state, can run on any thread.
+     * The returned task commits the processed command, and is always run on the thread registering the commands.
+     * Platforms that don't split the work simply register the command when the task is run.
+     *
+     * @param baseCommand The {@link BaseCommand} to be processed.
+     * @return The task that registers the processed command.
+     */
+    protected @NotNull Runnable prepareCommand(final @NotNull BaseCommand baseCommand) {
+        return () -> registerCommand(baseCommand);
+    }
+
     /**
      * Main method for unregistering commands to be implemented in other platform command managers.
      *
@@ -105,16 +175,19 @@ public abstract class CommandManager<DS, S> {
      */
     public final void registerArgument(final @NotNull Class<?> clazz, final @NotNull ArgumentResolver<S> resolver) {
         getRegistryContainer().getArgumentRegistry().register(clazz, resolver);
+        getRegistryContainer().incrementVersion();
     }
 
     // TODO: Comments
     public void registerSuggestion(final @NotNull SuggestionKey key, final @NotNull SuggestionResolver<S> suggestionResolver) {
         getRegistryContainer().getSuggestionRegistry().register(key, suggestionResolver);
+        getRegistryContainer().incrementVersion();
     }
 
     // TODO: Comments
     public void registerSuggestion(final @NotNull Class<?> type, final @NotNull SuggestionResolver<S> suggestionResolver) {
         getRegistryContainer().getSuggestionRegistry().register(type, suggestionResolver);
+        getRegistryContainer().incrementVersion();
     }
 
     // TODO: Comments
@@ -124,6 +197,7 @@ public abstract class CommandManager<DS, S> {
 
     public final void registerNamedArguments(final @NotNull ArgumentKey key, final @NotNull List<@NotNull Argument> arguments) {
         getRegistryContainer().getNamedArgumentRegistry().register(key, arguments);
+        getRegistryContainer().incrementVersion();
     }
 
     /**
@@ -150,6 +224,85 @@ public abstract class CommandManager<DS, S> {
             final @NotNull RequirementResolver<S> resolver
     ) {
         getRegistryContainer().getRequirementRegistry().register(key, resolver);
+        getRegistryContainer().incrementVersion();
+    }
+
+    /**
+     * Sets the {@link CommandMetrics} used to time the command dispatch.
+     * Commands pick up the metrics when they are registered, so this should be called before registering any command.
+     *
+     * @param metrics The metrics to use, {@link CommandMetrics#noop()} disables them.
+     */
+    public final void setMetrics(final @NotNull CommandMetrics metrics) {
+        getRegistryContainer().setMetrics(metrics);
+    }
+
+    /**
+     * Gets the {@link CommandMetrics} in use, can be used to get a snapshot of the recorded metrics.
+     *
+     * @return The current metrics.
+     */
+    public final @NotNull CommandMetrics getMetrics() {
+        return getRegistryContainer().getMetrics();
+    }
+
+    /**
+     * Stores the processed command metadata in the given directory, so the next start can skip reading the annotations.
+     * Snapshots are rebuilt whenever the command class changes, commands with a generated descriptor don't use them.
+     *
+     * @param directory The directory for the snapshot files, or null to disable the cache.
+     */
+    public final void setSnapshotDirectory(final @Nullable Path directory) {
+        getRegistryContainer().setSnapshotCache(directory == null ? null : DescriptorSnapshotCache.create(directory));
+    }
+
+    /**
+     * Replaces what happens with the result of each execution, by default failures send their registered message.
+     *
+     * @param resultHandler The new result handler.
+     */
+    public final void setResultHandler(final @NotNull ResultHandler<S> resultHandler) {
+        getRegistryContainer().setResultHandler(resultHandler);
+    }
+
+    /**
+     * Makes exceptions thrown while executing commands capture their full stack trace.
+     * Off by default, since the cause of a failed invocation already carries its own.
+     *
+     * @param debug Whether execution exceptions should capture stack traces.
+     */
+    public final void setDebug(final boolean debug) {
+        getRegistryContainer().setDebug(debug);
+    }
+
+    /**
+     * Makes commands registered after this only read the sub command names on registration.
+     * Each sub command is fully built the first time it's executed or completed, or when {@link #warmUp()} is called.
+     * Errors in a lazy sub command, like an unknown argument type, only show up once it's built.
+     *
+     * @param lazy Whether sub commands should be built lazily.
+     */
+    public final void setLazySubCommands(final boolean lazy) {
+        getRegistryContainer().setLazySubCommands(lazy);
+    }
+
+    /**
+     * Builds every lazy sub command that hasn't been built yet.
+     *
+     * @return A report with how long building all the sub commands so far took, per stage.
+     */
+    public final @NotNull RegistrationReport warmUp() {
+        getRegistryContainer().materializeSubCommands();
+        return getRegistrationReport();
+    }
+
+    /**
+     * Gets how long building the sub commands took so far, per stage.
+     *
+     * @return The current registration report.
+     */
+    public final @NotNull RegistrationReport getRegistrationReport() {
+        return getRegistryContainer().getRegistrationTimings().snapshot();
     }
 
     // TODO: Comments
@@ -24,6 +24,7 @@
 package dev.triumphteam.cmd.core;
 
 import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.result.CommandResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -37,6 +38,8 @@ public interface SubCommand<S> {
 
     @NotNull String getName();
 
+    @NotNull List<@NotNull String> getAlias();
+
     @NotNull String getParentName();
 
     @NotNull Class<? extends S> getSenderType();
@@ -56,7 +59,8 @@ public interface SubCommand<S> {
      *
      * @param sender The sender.
      * @param args   The arguments to pass to the executor.
+     * @return The result of the execution.
      */
-    void execute(final @NotNull S sender, final @NotNull List<@NotNull String> args);
+    @NotNull CommandResult execute(final @NotNull S sender, final @NotNull List<@NotNull String> args);
 
 }
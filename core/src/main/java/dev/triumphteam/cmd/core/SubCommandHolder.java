@@ -0,0 +1,149 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core;
+
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds a sub command that is either already built or built the first time it's needed.
+ * Commands only need what's on the descriptor up front, everything else is only read through {@link #get()}.
+ *
+ * @param <S>  The sender type.
+ * @param <SC> The sub command type.
+ */
+public final class SubCommandHolder<S, SC extends SubCommand<S>> {
+
+    private final SubCommandDescriptor descriptor;
+
+    private volatile SC subCommand;
+    private Supplier<SC> factory;
+    private Consumer<? super SubCommandHolder<S, SC>> onBuilt;
+
+    private SubCommandHolder(
+            final @NotNull SubCommandDescriptor descriptor,
+            final @Nullable SC subCommand,
+            final @Nullable Supplier<SC> factory,
+            final @Nullable Consumer<? super SubCommandHolder<S, SC>> onBuilt
+    ) {
+        this.descriptor = descriptor;
+        this.subCommand = subCommand;
+        this.factory = factory;
+        this.onBuilt = onBuilt;
+    }
+
+    /**
+     * Creates a holder for an already built sub command.
+     *
+     * @param descriptor The descriptor the sub command was built from.
+     * @param subCommand The sub command.
+     * @return A new holder.
+     */
+    @Contract("_, _ -> new")
+    public static <S, SC extends SubCommand<S>> @NotNull SubCommandHolder<S, SC> of(
+            final @NotNull SubCommandDescriptor descriptor,
+            final @NotNull SC subCommand
+    ) {
+        return new SubCommandHolder<>(descriptor, subCommand, null, null);
+    }
+
+    /**
+     * Creates a holder that builds the sub command on first use.
+     * The factory runs at most once successfully, if it throws it'll be tried again on the next use.
+     *
+     * @param descriptor The descriptor of the sub command.
+     * @param factory    The factory that builds the sub command.
+     * @param onBuilt    Called once with the holder right after the sub command is built.
+     * @return A new holder.
+     */
+    @Contract("_, _, _ -> new")
+    public static <S, SC extends SubCommand<S>> @NotNull SubCommandHolder<S, SC> lazy(
+            final @NotNull SubCommandDescriptor descriptor,
+            final @NotNull Supplier<@NotNull SC> factory,
+            final @NotNull Consumer<? super SubCommandHolder<S, SC>> onBuilt
+    ) {
+        return new SubCommandHolder<>(descriptor, null, factory, onBuilt);
+    }
+
+    public @NotNull SubCommandDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    public @NotNull String getName() {
+        return descriptor.getName();
+    }
+
+    public @NotNull List<@NotNull String> getAlias() {
+        return descriptor.getAlias();
+    }
+
+    /**
+     * Whether the sub command has already been built.
+     *
+     * @return True if {@link #get()} won't build anything.
+     */
+    public boolean isMaterialized() {
+        return subCommand != null;
+    }
+
+    /**
+     * Gets the sub command, building it if it hasn't been yet.
+     *
+     * @return The sub command.
+     */
+    public @NotNull SC get() {
+        SC result = subCommand;
+        if (result != null) return result;
+
+        final Consumer<? super SubCommandHolder<S, SC>> listener;
+        synchronized (this) {
+            result = subCommand;
+            if (result != null) return result;
+
+            result = factory.get();
+            subCommand = result;
+            listener = onBuilt;
+            factory = null;
+            onBuilt = null;
+        }
+
+        listener.accept(this);
+        return result;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SubCommandHolder{" +
+                "name='" + getName() + '\'' +
+                ", alias=" + getAlias() +
+                ", materialized=" + isMaterialized() +
+                '}';
+    }
+}
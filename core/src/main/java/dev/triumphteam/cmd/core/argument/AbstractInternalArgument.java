@@ -115,7 +115,12 @@ public abstract class AbstractInternalArgument<S, T> implements InternalArgument
         return optional;
     }
 
-    protected @NotNull Suggestion<S> getSuggestion() {
+    /**
+     * Gets where the suggestions for the internalArgument come from.
+     *
+     * @return The internalArgument's {@link Suggestion}.
+     */
+    public @NotNull Suggestion<S> getSuggestion() {
         return suggestion;
     }
 
@@ -28,11 +28,17 @@ import com.google.common.primitives.Floats;
 import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
 import dev.triumphteam.cmd.core.registry.Registry;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * The argument registry holds simple types of all common argument types.
@@ -43,7 +49,8 @@ import java.util.Map;
  */
 public final class ArgumentRegistry<S> implements Registry {
 
-    private final Map<Class<?>, ArgumentResolver<S>> arguments = new HashMap<>();
+    private final SnapshotMap<Class<?>, ArgumentResolver<S>> arguments = new SnapshotMap<>();
+    private volatile ClassValue<Optional<ArgumentResolver<S>>> resolvers = createCache();
 
     @SuppressWarnings("UnstableApiUsage")
     public ArgumentRegistry() {
@@ -70,22 +77,82 @@ public final class ArgumentRegistry<S> implements Registry {
 
     /**
      * Registers a new argument type.
+     * Also serves every subtype of the given type that doesn't have a closer registration.
      *
      * @param clazz    The {@link Class} type the argument should be.
      * @param argument The {@link ArgumentResolver} with the resolution of the argument.
      */
     public void register(final @NotNull Class<?> clazz, final @NotNull ArgumentResolver<S> argument) {
         arguments.put(clazz, argument);
+        // Any cached lookup could now have a closer match
+        resolvers = createCache();
     }
 
     /**
-     * Gets an argument resolver from the Map.
+     * Gets the argument resolver for the given type.
+     * If the type itself isn't registered, its superclasses and interfaces are searched, nearest first.
+     * Lookups are cached per type until the next registration.
      *
      * @param clazz The {@link Class} type the argument.
      * @return An {@link ArgumentResolver} or null if it doesn't exist.
      */
     public @Nullable ArgumentResolver<S> getResolver(final @NotNull Class<?> clazz) {
-        return arguments.get(clazz);
+        return resolvers.get(clazz).orElse(null);
+    }
+
+    private @NotNull ClassValue<Optional<ArgumentResolver<S>>> createCache() {
+        return new ClassValue<Optional<ArgumentResolver<S>>>() {
+            @Override
+            protected Optional<ArgumentResolver<S>> computeValue(final @NotNull Class<?> type) {
+                return Optional.ofNullable(findResolver(type));
+            }
+        };
+    }
+
+    /**
+     * Walks the type hierarchy breadth first, so the superclass and directly implemented interfaces
+     * are checked before any of their own parents.
+     *
+     * @param type The argument type.
+     * @return The nearest resolver or null if none of the types are registered.
+     */
+    private @Nullable ArgumentResolver<S> findResolver(final @NotNull Class<?> type) {
+        final Map<Class<?>, ArgumentResolver<S>> registered = arguments.snapshot();
+
+        final ArgumentResolver<S> exact = registered.get(type);
+        if (exact != null || type.isPrimitive()) return exact;
+
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (!visited.add(current)) continue;
+
+            final ArgumentResolver<S> resolver = registered.get(current);
+            if (resolver != null) return inherited(type, resolver);
+
+            final Class<?> superclass = current.getSuperclass();
+            if (superclass != null) queue.add(superclass);
+            Collections.addAll(queue, current.getInterfaces());
+        }
+
+        return null;
+    }
+
+    /**
+     * Wraps a resolver registered for a supertype, values that aren't of the requested type are treated as invalid.
+     *
+     * @param type     The requested type.
+     * @param resolver The resolver of the supertype.
+     * @return A resolver that only returns values of the requested type.
+     */
+    private @NotNull ArgumentResolver<S> inherited(final @NotNull Class<?> type, final @NotNull ArgumentResolver<S> resolver) {
+        return (sender, arg) -> {
+            final Object value = resolver.resolve(sender, arg);
+            return type.isInstance(value) ? value : null;
+        };
     }
 
 }
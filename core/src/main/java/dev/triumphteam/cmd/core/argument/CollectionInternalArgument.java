@@ -23,19 +23,17 @@
  */
 package dev.triumphteam.cmd.core.argument;
 
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.suggestion.Suggestion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
- * Collection argument, a {@link LimitlessInternalArgument} but returns a {@link List} instead.
- * Currently, only supports {@link List} and {@link Set}.
+ * Collection argument, a {@link LimitlessInternalArgument} but returns a collection instead.
+ * Supports all the types listed in {@link CollectionType}.
  *
  * @param <S> The sender type.
  */
@@ -43,6 +41,7 @@ public final class CollectionInternalArgument<S> extends LimitlessInternalArgume
 
     private final InternalArgument<S, String> internalArgument;
     private final Class<?> collectionType;
+    private final CollectionType collector;
 
     public CollectionInternalArgument(
             final @NotNull String name,
@@ -56,6 +55,12 @@ public final class CollectionInternalArgument<S> extends LimitlessInternalArgume
         super(name, description, String.class, suggestion, position, optional);
         this.internalArgument = internalArgument;
         this.collectionType = collectionType;
+
+        final CollectionType collector = CollectionType.of(collectionType);
+        if (collector == null) {
+            throw new CommandRegistrationException("Unsupported collection type \"" + collectionType.getName() + "\"");
+        }
+        this.collector = collector;
     }
 
     /**
@@ -63,13 +68,11 @@ public final class CollectionInternalArgument<S> extends LimitlessInternalArgume
      *
      * @param sender The sender to resolve to.
      * @param value  The arguments {@link List}.
-     * @return A {@link java.util.Collection} type as the resolved value.
+     * @return A collection type as the resolved value or null if any of the values couldn't be resolved.
      */
     @Override
-    public @NotNull Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> value) {
-        final Stream<Object> stream = value.stream().map(arg -> internalArgument.resolve(sender, arg));
-        if (collectionType == Set.class) return stream.collect(Collectors.toSet());
-        return stream.collect(Collectors.toList());
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> value) {
+        return collector.collect(sender, internalArgument, value);
     }
 
     @Override
@@ -0,0 +1,171 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import com.google.common.collect.Sets;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * The container types a {@link CollectionInternalArgument} or a {@link SplitStringInternalArgument} can resolve into.
+ * Containers are created with the exact amount of values, and collecting stops at the first value that fails to resolve.
+ */
+public enum CollectionType {
+
+    LIST {
+        @Override
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return new ArrayList<>(size);
+        }
+    },
+    SET {
+        @Override
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return Sets.newHashSetWithExpectedSize(size);
+        }
+    },
+    DEQUE {
+        @Override
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return new ArrayDeque<>(size);
+        }
+    },
+    ENUM_SET {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return EnumSet.noneOf((Class) elementType);
+        }
+    },
+    INT_ARRAY {
+        @Override
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return new int[size];
+        }
+
+        @Override
+        protected void set(final @NotNull Object container, final int index, final @NotNull Object value) {
+            ((int[]) container)[index] = ((Number) value).intValue();
+        }
+    },
+    LONG_ARRAY {
+        @Override
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return new long[size];
+        }
+
+        @Override
+        protected void set(final @NotNull Object container, final int index, final @NotNull Object value) {
+            ((long[]) container)[index] = ((Number) value).longValue();
+        }
+    },
+    DOUBLE_ARRAY {
+        @Override
+        protected @NotNull Object create(final @NotNull Class<?> elementType, final int size) {
+            return new double[size];
+        }
+
+        @Override
+        protected void set(final @NotNull Object container, final int index, final @NotNull Object value) {
+            ((double[]) container)[index] = ((Number) value).doubleValue();
+        }
+    };
+
+    /**
+     * Resolves each value and collects them into this container type.
+     *
+     * @param sender           The sender to resolve to.
+     * @param internalArgument The argument used to resolve each value.
+     * @param values           The values to resolve.
+     * @param <S>              The sender type.
+     * @return The resolved container or null if any of the values couldn't be resolved.
+     */
+    <S> @Nullable Object collect(
+            final @NotNull S sender,
+            final @NotNull InternalArgument<S, String> internalArgument,
+            final @NotNull List<@NotNull String> values
+    ) {
+        final int size = values.size();
+        final Object result = create(internalArgument.getType(), size);
+        for (int i = 0; i < size; i++) {
+            final Object resolved = internalArgument.resolve(sender, values.get(i));
+            if (resolved == null) return null;
+            set(result, i, resolved);
+        }
+        return result;
+    }
+
+    /**
+     * Creates an empty container for the given amount of values.
+     *
+     * @param elementType The type of the values.
+     * @param size        The amount of values that will be added.
+     * @return The new container.
+     */
+    protected abstract @NotNull Object create(final @NotNull Class<?> elementType, final int size);
+
+    /**
+     * Stores a resolved value in the container, collections simply add it.
+     *
+     * @param container The container created by {@link #create(Class, int)}.
+     * @param index     The position of the value.
+     * @param value     The resolved value.
+     */
+    @SuppressWarnings("unchecked")
+    protected void set(final @NotNull Object container, final int index, final @NotNull Object value) {
+        ((Collection<Object>) container).add(value);
+    }
+
+    /**
+     * Gets the collection type that matches the given parameter type.
+     *
+     * @param type The parameter type.
+     * @return The matching collection type or null if the type is not a supported collection.
+     */
+    public static @Nullable CollectionType of(final @NotNull Class<?> type) {
+        if (type.isArray()) {
+            final Class<?> componentType = type.getComponentType();
+            if (componentType == int.class) return INT_ARRAY;
+            if (componentType == long.class) return LONG_ARRAY;
+            if (componentType == double.class) return DOUBLE_ARRAY;
+            return null;
+        }
+
+        if (type == EnumSet.class) return ENUM_SET;
+        if (type == ArrayDeque.class || type == Deque.class || type == Queue.class) return DEQUE;
+        if (type == List.class || type == ArrayList.class || type == Collection.class) return LIST;
+        if (type == Set.class || type == HashSet.class) return SET;
+        return null;
+    }
+}
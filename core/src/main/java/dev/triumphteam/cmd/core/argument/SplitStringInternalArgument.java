@@ -23,16 +23,18 @@
  */
 package dev.triumphteam.cmd.core.argument;
 
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.suggestion.Suggestion;
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Splitting argument takes a string and splits it into a collection.
@@ -41,9 +43,14 @@ import java.util.stream.Stream;
  */
 public final class SplitStringInternalArgument<S> extends StringInternalArgument<S> {
 
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+
     private final String regex;
     private final InternalArgument<S, String> internalArgument;
-    private final Class<?> collectionType;
+    private final CollectionType collector;
+    // Only one of them is used, literal separators skip the regex engine entirely
+    private final Pattern pattern;
+    private final boolean literal;
 
     public SplitStringInternalArgument(
             final @NotNull String name,
@@ -58,7 +65,14 @@ public final class SplitStringInternalArgument<S> extends StringInternalArgument
         super(name, description, String.class, suggestion, position, optional);
         this.regex = regex;
         this.internalArgument = internalArgument;
-        this.collectionType = collectionType;
+        final CollectionType collector = CollectionType.of(collectionType);
+        if (collector == null) {
+            throw new CommandRegistrationException("Unsupported collection type \"" + collectionType.getName() + "\"");
+        }
+        this.collector = collector;
+
+        this.literal = isLiteral(regex);
+        this.pattern = literal ? null : Pattern.compile(regex);
     }
 
     /**
@@ -66,13 +80,11 @@ public final class SplitStringInternalArgument<S> extends StringInternalArgument
      *
      * @param sender The sender to resolve to.
      * @param value  The argument value.
-     * @return A collection of the split strings.
+     * @return A collection of the split strings or null if any of them couldn't be resolved.
      */
     @Override
-    public @NotNull Object resolve(final @NotNull S sender, final @NotNull String value) {
-        final Stream<Object> stream = Arrays.stream(value.split(regex)).map(arg -> internalArgument.resolve(sender, arg));
-        if (collectionType == Set.class) return stream.collect(Collectors.toSet());
-        return stream.collect(Collectors.toList());
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull String value) {
+        return collector.collect(sender, internalArgument, split(value));
     }
 
     @Override
@@ -81,7 +93,7 @@ public final class SplitStringInternalArgument<S> extends StringInternalArgument
             final @NotNull List<@NotNull String> trimmed,
             final @NotNull SuggestionContext context
     ) {
-        final List<String> split = Arrays.asList(trimmed.get(trimmed.size() - 1).split(regex));
+        final List<String> split = split(trimmed.get(trimmed.size() - 1));
         if (split.size() == 0) return Collections.emptyList();
         final String current = split.get(split.size() - 1);
         final String joined = String.join(regex, split.subList(0, split.size() - 1));
@@ -92,4 +104,38 @@ public final class SplitStringInternalArgument<S> extends StringInternalArgument
                 .map(it -> map + it)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Splits the value the same way {@link String#split(String)} would, trailing empty strings are removed.
+     *
+     * @param value The value to split.
+     * @return The split values.
+     */
+    private @NotNull List<@NotNull String> split(final @NotNull String value) {
+        if (!literal) return Arrays.asList(pattern.split(value));
+
+        int next = value.indexOf(regex);
+        if (next == -1) return Collections.singletonList(value);
+
+        final List<String> result = new ArrayList<>();
+        int start = 0;
+        while (next != -1) {
+            result.add(value.substring(start, next));
+            start = next + regex.length();
+            next = value.indexOf(regex, start);
+        }
+        result.add(value.substring(start));
+
+        int size = result.size();
+        while (size > 0 && result.get(size - 1).isEmpty()) size--;
+        return size == result.size() ? result : result.subList(0, size);
+    }
+
+    private static boolean isLiteral(final @NotNull String regex) {
+        if (regex.isEmpty()) return false;
+        for (int i = 0; i < regex.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(regex.charAt(i)) != -1) return false;
+        }
+        return true;
+    }
 }
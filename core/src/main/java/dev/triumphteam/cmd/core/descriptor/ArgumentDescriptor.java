@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The data of a single sub command parameter, excluding the sender.
+ */
+public final class ArgumentDescriptor {
+
+    private final Class<?> type;
+    private final Class<?> elementType;
+    private final String name;
+    private final String description;
+    private final boolean optional;
+    private final String split;
+    private final String join;
+    private final String suggestion;
+
+    ArgumentDescriptor(final @NotNull ArgumentDescriptorBuilder builder) {
+        this.type = builder.getType();
+        this.elementType = builder.getElementType();
+        this.name = builder.getName();
+        this.description = builder.getDescription();
+        this.optional = builder.isOptional();
+        this.split = builder.getSplit();
+        this.join = builder.getJoin();
+        this.suggestion = builder.getSuggestion();
+    }
+
+    /**
+     * Creates a builder for an argument of the given type.
+     *
+     * @param type The parameter type.
+     * @param name The argument name.
+     * @return A new {@link ArgumentDescriptorBuilder}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull ArgumentDescriptorBuilder builder(final @NotNull Class<?> type, final @NotNull String name) {
+        return new ArgumentDescriptorBuilder(type, name);
+    }
+
+    /**
+     * Gets the parameter type.
+     *
+     * @return The parameter type.
+     */
+    public @NotNull Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the element type for collections and arrays, otherwise the same as {@link #getType()}.
+     *
+     * @return The element type.
+     */
+    public @NotNull Class<?> getElementType() {
+        return elementType;
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the description declared on the parameter itself.
+     *
+     * @return The description or null if the parameter has none.
+     */
+    public @Nullable String getDescription() {
+        return description;
+    }
+
+    public boolean isOptional() {
+        return optional;
+    }
+
+    public @Nullable String getSplit() {
+        return split;
+    }
+
+    public @Nullable String getJoin() {
+        return join;
+    }
+
+    public @Nullable String getSuggestion() {
+        return suggestion;
+    }
+
+    @Override
+    public String toString() {
+        return "ArgumentDescriptor{" +
+                "type=" + type +
+                ", elementType=" + elementType +
+                ", name='" + name + '\'' +
+                ", optional=" + optional +
+                ", split='" + split + '\'' +
+                ", join='" + join + '\'' +
+                ", suggestion='" + suggestion + '\'' +
+                '}';
+    }
+}
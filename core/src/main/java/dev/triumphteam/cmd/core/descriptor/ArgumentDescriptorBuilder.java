@@ -0,0 +1,127 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Builder for {@link ArgumentDescriptor}.
+ */
+public final class ArgumentDescriptorBuilder {
+
+    private final Class<?> type;
+    private final String name;
+    private Class<?> elementType;
+    private String description;
+    private boolean optional = false;
+    private String split;
+    private String join;
+    private String suggestion;
+
+    ArgumentDescriptorBuilder(final @NotNull Class<?> type, final @NotNull String name) {
+        this.type = type;
+        this.elementType = type;
+        this.name = name;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ArgumentDescriptorBuilder elementType(final @NotNull Class<?> elementType) {
+        this.elementType = elementType;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ArgumentDescriptorBuilder description(final @Nullable String description) {
+        this.description = description;
+        return this;
+    }
+
+    @Contract(" -> this")
+    public @NotNull ArgumentDescriptorBuilder optional() {
+        this.optional = true;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ArgumentDescriptorBuilder split(final @Nullable String split) {
+        this.split = split;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ArgumentDescriptorBuilder join(final @Nullable String join) {
+        this.join = join;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ArgumentDescriptorBuilder suggestion(final @Nullable String suggestion) {
+        this.suggestion = suggestion;
+        return this;
+    }
+
+    /**
+     * Builds the argument descriptor.
+     *
+     * @return A new {@link ArgumentDescriptor} with the data from this builder.
+     */
+    @Contract(" -> new")
+    public @NotNull ArgumentDescriptor build() {
+        return new ArgumentDescriptor(this);
+    }
+
+    @NotNull Class<?> getType() {
+        return type;
+    }
+
+    @NotNull Class<?> getElementType() {
+        return elementType;
+    }
+
+    @NotNull String getName() {
+        return name;
+    }
+
+    @Nullable String getDescription() {
+        return description;
+    }
+
+    boolean isOptional() {
+        return optional;
+    }
+
+    @Nullable String getSplit() {
+        return split;
+    }
+
+    @Nullable String getJoin() {
+        return join;
+    }
+
+    @Nullable String getSuggestion() {
+        return suggestion;
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Describes every sub command declared by a command class.
+ * Implementations are generated by the <code>triumph-cmd-processor</code> annotation processor,
+ * when absent the descriptor is read through reflection instead.
+ */
+public interface CommandDescriptor {
+
+    /**
+     * Suffix appended to the binary name of the command class to locate its generated descriptor.
+     */
+    String GENERATED_SUFFIX = "$$TriumphDescriptor";
+
+    /**
+     * Gets the command class this descriptor was created from.
+     *
+     * @return The command class.
+     */
+    @NotNull Class<? extends BaseCommand> getCommandClass();
+
+    /**
+     * Gets the sub commands declared by the command class, methods without a sub command annotation are not included.
+     *
+     * @return The sub command descriptors.
+     */
+    @NotNull List<@NotNull SubCommandDescriptor> getSubCommands();
+}
@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Looks up the {@link CommandDescriptor} of a command class.
+ * The generated descriptor is used when present, otherwise the class is read through reflection.
+ * Either way the result is cached per class.
+ */
+public final class CommandDescriptors {
+
+    private static final ClassValue<Optional<CommandDescriptor>> GENERATED = new ClassValue<Optional<CommandDescriptor>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Optional<CommandDescriptor> computeValue(final @NotNull Class<?> type) {
+            return Optional.ofNullable(loadGenerated((Class<? extends BaseCommand>) type));
+        }
+    };
+
+    private static final ClassValue<CommandDescriptor> DESCRIPTORS = new ClassValue<CommandDescriptor>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected CommandDescriptor computeValue(final @NotNull Class<?> type) {
+            final Class<? extends BaseCommand> commandClass = (Class<? extends BaseCommand>) type;
+            return GENERATED.get(commandClass).orElseGet(() -> ReflectiveDescriptorReader.read(commandClass));
+        }
+    };
+
+    private CommandDescriptors() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    /**
+     * Gets the descriptor for the given command class.
+     *
+     * @param commandClass The command class.
+     * @return The generated descriptor if one was compiled, otherwise a reflective one.
+     */
+    public static @NotNull CommandDescriptor of(final @NotNull Class<? extends BaseCommand> commandClass) {
+        return DESCRIPTORS.get(commandClass);
+    }
+
+    /**
+     * Gets the descriptor for the given command class, going through the snapshot cache instead of reflection when one is given.
+     *
+     * @param commandClass  The command class.
+     * @param snapshotCache The snapshot cache, or null to read reflectively.
+     * @return The generated descriptor if one was compiled, otherwise a cached or reflective one.
+     */
+    public static @NotNull CommandDescriptor of(
+            final @NotNull Class<? extends BaseCommand> commandClass,
+            final @Nullable DescriptorSnapshotCache snapshotCache
+    ) {
+        if (snapshotCache == null) return of(commandClass);
+        return GENERATED.get(commandClass).orElseGet(() -> snapshotCache.get(commandClass));
+    }
+
+    private static @Nullable CommandDescriptor loadGenerated(final @NotNull Class<? extends BaseCommand> commandClass) {
+        final Class<?> descriptorClass;
+        try {
+            descriptorClass = Class.forName(commandClass.getName() + CommandDescriptor.GENERATED_SUFFIX, true, commandClass.getClassLoader());
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+
+        try {
+            return (CommandDescriptor) descriptorClass.getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | ClassCastException exception) {
+            throw new CommandRegistrationException("Could not load the generated command descriptor: " + exception.getMessage(), commandClass);
+        }
+    }
+}
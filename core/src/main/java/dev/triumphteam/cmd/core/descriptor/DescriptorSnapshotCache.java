@@ -0,0 +1,174 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Persists the reflectively read {@link CommandDescriptor}s to disk, one file per command class.
+ * Each snapshot is keyed by a hash of the class bytecode, so editing a command rebuilds its snapshot on the next start.
+ * Only the class's own declared methods are read, so inherited and nested classes don't affect the snapshot.
+ * Generated descriptors never go through this cache, they are already free to load.
+ */
+public final class DescriptorSnapshotCache {
+
+    private static final String EXTENSION = ".tcds";
+
+    private final Path directory;
+
+    private final ClassValue<CommandDescriptor> descriptors = new ClassValue<CommandDescriptor>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected CommandDescriptor computeValue(final @NotNull Class<?> type) {
+            return load((Class<? extends BaseCommand>) type);
+        }
+    };
+
+    private DescriptorSnapshotCache(final @NotNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a snapshot cache storing its files in the given directory, which is created when first written to.
+     *
+     * @param directory The directory for the snapshot files.
+     * @return A new {@link DescriptorSnapshotCache}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull DescriptorSnapshotCache create(final @NotNull Path directory) {
+        return new DescriptorSnapshotCache(directory);
+    }
+
+    /**
+     * Gets the descriptor of the class, from its snapshot when it's still valid, otherwise read and stored again.
+     *
+     * @param commandClass The command class.
+     * @return The command descriptor.
+     */
+    public @NotNull CommandDescriptor get(final @NotNull Class<? extends BaseCommand> commandClass) {
+        return descriptors.get(commandClass);
+    }
+
+    public @NotNull Path getDirectory() {
+        return directory;
+    }
+
+    private @NotNull CommandDescriptor load(final @NotNull Class<? extends BaseCommand> commandClass) {
+        final byte[] hash = hashBytecode(commandClass);
+        // Without the bytecode there is nothing to key the snapshot with.
+        if (hash == null) return ReflectiveDescriptorReader.read(commandClass);
+
+        final Path file = directory.resolve(commandClass.getName() + EXTENSION);
+        final CommandDescriptor snapshot = readSnapshot(file, commandClass, hash);
+        if (snapshot != null) return snapshot;
+
+        final CommandDescriptor descriptor = ReflectiveDescriptorReader.read(commandClass);
+        writeSnapshot(file, descriptor, hash);
+        return descriptor;
+    }
+
+    private @Nullable CommandDescriptor readSnapshot(
+            final @NotNull Path file,
+            final @NotNull Class<? extends BaseCommand> commandClass,
+            final byte @NotNull [] hash
+    ) {
+        if (!Files.isRegularFile(file)) return null;
+
+        // Read into the heap rather than mapping, a live mapping keeps the file locked on Windows and blocks replacing it.
+        try {
+            return DescriptorSnapshotCodec.decode(ByteBuffer.wrap(Files.readAllBytes(file)), commandClass, hash);
+        } catch (final IOException | BufferUnderflowException | ClassNotFoundException | IllegalArgumentException exception) {
+            // Unreadable or outdated snapshots are simply rebuilt.
+            return null;
+        }
+    }
+
+    private void writeSnapshot(final @NotNull Path file, final @NotNull CommandDescriptor descriptor, final byte @NotNull [] hash) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(temporary, DescriptorSnapshotCodec.encode(descriptor, hash));
+
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException ignored) {
+            // The cache only speeds up the next start, failing to write it must not fail the registration.
+        } finally {
+            deleteQuietly(temporary);
+        }
+    }
+
+    private static void deleteQuietly(final @Nullable Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+            // Leftover temporary files are harmless.
+        }
+    }
+
+    private static byte @Nullable [] hashBytecode(final @NotNull Class<?> commandClass) {
+        final String name = commandClass.getName();
+        final String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+
+        try (final InputStream input = commandClass.getResourceAsStream(resource)) {
+            if (input == null) return null;
+
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch (final IOException | NoSuchAlgorithmException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DescriptorSnapshotCache{" +
+                "directory=" + directory +
+                '}';
+    }
+}
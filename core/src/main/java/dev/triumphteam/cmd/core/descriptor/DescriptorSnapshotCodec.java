@@ -0,0 +1,283 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary format of the descriptor snapshots.
+ * <pre>
+ * int     magic
+ * short   format version
+ * bytes   bytecode hash
+ * string  command class name
+ * int     sub command count, followed by each sub command
+ * </pre>
+ * Strings are length prefixed UTF-8, a length of -1 is null.
+ * Classes are stored by name and resolved through the command class' loader when read.
+ */
+final class DescriptorSnapshotCodec {
+
+    private static final int MAGIC = 0x54434D44;
+    // Bump whenever the layout or the meaning of the descriptors changes.
+    private static final short VERSION = 1;
+
+    private static final int DEFAULT = 1;
+    private static final int ASYNC = 1 << 1;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (final Class<?> type : Arrays.asList(
+                boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class
+        )) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    private DescriptorSnapshotCodec() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    static byte @NotNull [] encode(final @NotNull CommandDescriptor descriptor, final byte @NotNull [] hash) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(hash.length);
+        out.write(hash);
+        writeString(out, descriptor.getCommandClass().getName());
+
+        final List<SubCommandDescriptor> subCommands = descriptor.getSubCommands();
+        out.writeInt(subCommands.size());
+        for (final SubCommandDescriptor subCommand : subCommands) {
+            writeString(out, subCommand.getMethodName());
+            writeClasses(out, subCommand.getParameterTypes());
+            writeString(out, subCommand.getName());
+            writeStrings(out, subCommand.getAlias());
+            out.writeByte((subCommand.isDefault() ? DEFAULT : 0) | (subCommand.isAsync() ? ASYNC : 0));
+            writeString(out, subCommand.getDescription());
+            writeStrings(out, subCommand.getArgDescriptions());
+
+            out.writeInt(subCommand.getFlags().size());
+            for (final FlagDescriptor flag : subCommand.getFlags()) {
+                writeString(out, flag.getFlag());
+                writeString(out, flag.getLongFlag());
+                writeString(out, flag.getArgument().getName());
+                writeString(out, flag.getSuggestion());
+            }
+
+            out.writeInt(subCommand.getRequirements().size());
+            for (final RequirementDescriptor requirement : subCommand.getRequirements()) {
+                writeString(out, requirement.getKey());
+                writeString(out, requirement.getMessageKey());
+                out.writeBoolean(requirement.isInvert());
+            }
+
+            writeStrings(out, subCommand.getSuggestions());
+            writeString(out, subCommand.getNamedArguments());
+
+            out.writeInt(subCommand.getArguments().size());
+            for (final ArgumentDescriptor argument : subCommand.getArguments()) {
+                writeString(out, argument.getType().getName());
+                writeString(out, argument.getElementType().getName());
+                writeString(out, argument.getName());
+                writeString(out, argument.getDescription());
+                out.writeBoolean(argument.isOptional());
+                writeString(out, argument.getSplit());
+                writeString(out, argument.getJoin());
+                writeString(out, argument.getSuggestion());
+            }
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot.
+     *
+     * @param buffer       The snapshot contents.
+     * @param commandClass The class the snapshot is expected to describe.
+     * @param hash         The current bytecode hash of the class.
+     * @return The descriptor, or null if the snapshot is from another version, class or bytecode.
+     * @throws ClassNotFoundException   If a class referenced by the snapshot no longer exists.
+     * @throws IllegalArgumentException If the snapshot is corrupt.
+     */
+    static @Nullable CommandDescriptor decode(
+            final @NotNull ByteBuffer buffer,
+            final @NotNull Class<? extends BaseCommand> commandClass,
+            final byte @NotNull [] hash
+    ) throws ClassNotFoundException {
+        if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) return null;
+
+        final byte[] storedHash = new byte[checkLength(buffer, buffer.getShort())];
+        buffer.get(storedHash);
+        if (!Arrays.equals(storedHash, hash)) return null;
+        if (!commandClass.getName().equals(readString(buffer))) return null;
+
+        final ClassLoader loader = commandClass.getClassLoader();
+        final int subCommandCount = readLength(buffer);
+        final List<SubCommandDescriptor> subCommands = new ArrayList<>(subCommandCount);
+        for (int i = 0; i < subCommandCount; i++) {
+            final SubCommandDescriptorBuilder builder = SubCommandDescriptor.builder(
+                    readString(buffer),
+                    readClasses(buffer, loader)
+            );
+
+            builder.name(readString(buffer)).alias(readStrings(buffer));
+
+            final byte flags = buffer.get();
+            if ((flags & DEFAULT) != 0) builder.setDefault();
+            if ((flags & ASYNC) != 0) builder.async();
+
+            builder.description(readString(buffer)).argDescriptions(readStrings(buffer));
+
+            final int flagCount = buffer.getInt();
+            for (int j = 0; j < flagCount; j++) {
+                builder.flag(FlagDescriptor.of(readString(buffer), readString(buffer), readClass(buffer, loader), readString(buffer)));
+            }
+
+            final int requirementCount = buffer.getInt();
+            for (int j = 0; j < requirementCount; j++) {
+                builder.requirement(RequirementDescriptor.of(readString(buffer), readString(buffer), buffer.get() != 0));
+            }
+
+            builder.suggestions(readStrings(buffer)).namedArguments(readString(buffer));
+
+            final int argumentCount = buffer.getInt();
+            for (int j = 0; j < argumentCount; j++) {
+                final Class<?> type = readClass(buffer, loader);
+                final Class<?> elementType = readClass(buffer, loader);
+                final ArgumentDescriptorBuilder argument = ArgumentDescriptor.builder(type, readString(buffer))
+                        .elementType(elementType)
+                        .description(readString(buffer));
+
+                if (buffer.get() != 0) argument.optional();
+                builder.argument(argument.split(readString(buffer)).join(readString(buffer)).suggestion(readString(buffer)).build());
+            }
+
+            subCommands.add(builder.build());
+        }
+
+        final List<SubCommandDescriptor> result = Collections.unmodifiableList(subCommands);
+        return new CommandDescriptor() {
+            @Override
+            public @NotNull Class<? extends BaseCommand> getCommandClass() {
+                return commandClass;
+            }
+
+            @Override
+            public @NotNull List<@NotNull SubCommandDescriptor> getSubCommands() {
+                return result;
+            }
+        };
+    }
+
+    private static void writeString(final @NotNull DataOutputStream out, final @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(final @NotNull DataOutputStream out, final @NotNull List<@NotNull String> values) throws IOException {
+        out.writeInt(values.size());
+        for (final String value : values) writeString(out, value);
+    }
+
+    private static void writeClasses(final @NotNull DataOutputStream out, final @NotNull List<@NotNull Class<?>> types) throws IOException {
+        out.writeInt(types.size());
+        for (final Class<?> type : types) writeString(out, type.getName());
+    }
+
+    private static @Nullable String readString(final @NotNull ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) return null;
+
+        final byte[] bytes = new byte[checkLength(buffer, length)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static @NotNull String @NotNull [] readStrings(final @NotNull ByteBuffer buffer) {
+        final String[] values = new String[readLength(buffer)];
+        for (int i = 0; i < values.length; i++) values[i] = readString(buffer);
+        return values;
+    }
+
+    private static @NotNull Class<?> @NotNull [] readClasses(final @NotNull ByteBuffer buffer, final @Nullable ClassLoader loader) throws ClassNotFoundException {
+        final Class<?>[] types = new Class<?>[readLength(buffer)];
+        for (int i = 0; i < types.length; i++) types[i] = readClass(buffer, loader);
+        return types;
+    }
+
+    private static int readLength(final @NotNull ByteBuffer buffer) {
+        return checkLength(buffer, buffer.getInt());
+    }
+
+    /**
+     * Checks a length read from the snapshot before anything is allocated with it.
+     * Every element takes at least a byte, so a valid length never exceeds what's left in the buffer.
+     *
+     * @param buffer The snapshot contents.
+     * @param length The length that was read.
+     * @return The same length.
+     * @throws IllegalArgumentException If the length is negative or larger than the rest of the snapshot.
+     */
+    private static int checkLength(final @NotNull ByteBuffer buffer, final int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Corrupt snapshot, invalid length " + length);
+        }
+        return length;
+    }
+
+    private static @NotNull Class<?> readClass(final @NotNull ByteBuffer buffer, final @Nullable ClassLoader loader) throws ClassNotFoundException {
+        final String name = readString(buffer);
+        if (name == null) throw new ClassNotFoundException("null");
+
+        final Class<?> primitive = PRIMITIVES.get(name);
+        if (primitive != null) return primitive;
+        return Class.forName(name, false, loader);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The data of a single {@link dev.triumphteam.cmd.core.annotation.Flag} annotation.
+ */
+public final class FlagDescriptor {
+
+    private final String flag;
+    private final String longFlag;
+    private final Class<?> argument;
+    private final String suggestion;
+
+    private FlagDescriptor(
+            final @Nullable String flag,
+            final @Nullable String longFlag,
+            final @NotNull Class<?> argument,
+            final @Nullable String suggestion
+    ) {
+        this.flag = flag;
+        this.longFlag = longFlag;
+        this.argument = argument;
+        this.suggestion = suggestion;
+    }
+
+    /**
+     * Creates a new flag descriptor, empty values are treated as absent.
+     *
+     * @param flag       The short flag.
+     * @param longFlag   The long flag.
+     * @param argument   The argument type, <code>void.class</code> if the flag takes no argument.
+     * @param suggestion The suggestion key.
+     * @return A new {@link FlagDescriptor}.
+     */
+    @Contract("_, _, _, _ -> new")
+    public static @NotNull FlagDescriptor of(
+            final @Nullable String flag,
+            final @Nullable String longFlag,
+            final @NotNull Class<?> argument,
+            final @Nullable String suggestion
+    ) {
+        return new FlagDescriptor(emptyToNull(flag), emptyToNull(longFlag), argument, emptyToNull(suggestion));
+    }
+
+    public @Nullable String getFlag() {
+        return flag;
+    }
+
+    public @Nullable String getLongFlag() {
+        return longFlag;
+    }
+
+    public @NotNull Class<?> getArgument() {
+        return argument;
+    }
+
+    public @Nullable String getSuggestion() {
+        return suggestion;
+    }
+
+    static @Nullable String emptyToNull(final @Nullable String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    @Override
+    public String toString() {
+        return "FlagDescriptor{" +
+                "flag='" + flag + '\'' +
+                ", longFlag='" + longFlag + '\'' +
+                ", argument=" + argument +
+                ", suggestion='" + suggestion + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import com.google.common.base.CaseFormat;
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.ArgDescriptions;
+import dev.triumphteam.cmd.core.annotation.ArgName;
+import dev.triumphteam.cmd.core.annotation.Async;
+import dev.triumphteam.cmd.core.annotation.CommandFlags;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.Description;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.NamedArguments;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.Requirement;
+import dev.triumphteam.cmd.core.annotation.Requirements;
+import dev.triumphteam.cmd.core.annotation.Split;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.annotation.Suggestion;
+import dev.triumphteam.cmd.core.annotation.Suggestions;
+import dev.triumphteam.cmd.core.argument.CollectionType;
+import dev.triumphteam.cmd.core.exceptions.SubCommandRegistrationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the sub command descriptors straight from the annotations, used when no generated descriptor exists.
+ */
+final class ReflectiveDescriptorReader {
+
+    private ReflectiveDescriptorReader() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    /**
+     * Reads all the sub commands declared in the class.
+     *
+     * @param commandClass The command class.
+     * @return The command descriptor.
+     */
+    static @NotNull CommandDescriptor read(final @NotNull Class<? extends BaseCommand> commandClass) {
+        final List<SubCommandDescriptor> subCommands = new ArrayList<>();
+        for (final Method method : commandClass.getDeclaredMethods()) {
+            if (Modifier.isPrivate(method.getModifiers())) continue;
+
+            final SubCommandDescriptor descriptor = readMethod(commandClass, method);
+            if (descriptor != null) subCommands.add(descriptor);
+        }
+
+        final List<SubCommandDescriptor> result = Collections.unmodifiableList(subCommands);
+        return new CommandDescriptor() {
+            @Override
+            public @NotNull Class<? extends BaseCommand> getCommandClass() {
+                return commandClass;
+            }
+
+            @Override
+            public @NotNull List<@NotNull SubCommandDescriptor> getSubCommands() {
+                return result;
+            }
+        };
+    }
+
+    private static @Nullable SubCommandDescriptor readMethod(
+            final @NotNull Class<? extends BaseCommand> commandClass,
+            final @NotNull Method method
+    ) {
+        final Default defaultAnnotation = method.getAnnotation(Default.class);
+        final SubCommand subCommandAnnotation = method.getAnnotation(SubCommand.class);
+        if (defaultAnnotation == null && subCommandAnnotation == null) return null;
+
+        final SubCommandDescriptorBuilder builder = SubCommandDescriptor.builder(method.getName(), method.getParameterTypes()).method(method);
+
+        if (defaultAnnotation != null) {
+            builder.name(Default.DEFAULT_CMD_NAME).setDefault().alias(lowerCase(defaultAnnotation.alias()));
+        } else {
+            final String name = subCommandAnnotation.value().toLowerCase();
+            if (name.isEmpty()) {
+                throw new SubCommandRegistrationException("@" + SubCommand.class.getSimpleName() + " name must not be empty", method, commandClass);
+            }
+
+            builder.name(name).alias(lowerCase(subCommandAnnotation.alias()));
+        }
+
+        if (method.isAnnotationPresent(Async.class)) builder.async();
+
+        final Description description = method.getAnnotation(Description.class);
+        if (description != null) builder.description(description.value());
+
+        final ArgDescriptions argDescriptions = method.getAnnotation(ArgDescriptions.class);
+        if (argDescriptions != null) builder.argDescriptions(argDescriptions.value());
+
+        for (final Flag flag : getFlags(method)) {
+            builder.flag(FlagDescriptor.of(flag.flag(), flag.longFlag(), flag.argument(), flag.suggestion()));
+        }
+
+        for (final Requirement requirement : getRequirements(method)) {
+            builder.requirement(RequirementDescriptor.of(requirement.value(), requirement.messageKey(), requirement.invert()));
+        }
+
+        for (final Suggestion suggestion : getSuggestions(method)) {
+            builder.suggestions(suggestion.value());
+        }
+
+        final NamedArguments namedArguments = method.getAnnotation(NamedArguments.class);
+        if (namedArguments != null) builder.namedArguments(namedArguments.value());
+
+        final Parameter[] parameters = method.getParameters();
+        for (int i = 1; i < parameters.length; i++) {
+            builder.argument(readParameter(commandClass, method, parameters[i]));
+        }
+
+        return builder.build();
+    }
+
+    private static @NotNull ArgumentDescriptor readParameter(
+            final @NotNull Class<? extends BaseCommand> commandClass,
+            final @NotNull Method method,
+            final @NotNull Parameter parameter
+    ) {
+        final ArgName argName = parameter.getAnnotation(ArgName.class);
+        final String name = argName != null ? argName.value() : CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, parameter.getName());
+
+        final ArgumentDescriptorBuilder builder = ArgumentDescriptor.builder(parameter.getType(), name)
+                .elementType(getElementType(commandClass, method, parameter));
+
+        final Description description = parameter.getAnnotation(Description.class);
+        if (description != null) builder.description(description.value());
+
+        if (parameter.isAnnotationPresent(Optional.class)) builder.optional();
+
+        final Split split = parameter.getAnnotation(Split.class);
+        if (split != null) builder.split(split.value());
+
+        final Join join = parameter.getAnnotation(Join.class);
+        if (join != null) builder.join(join.value());
+
+        final Suggestion suggestion = parameter.getAnnotation(Suggestion.class);
+        if (suggestion != null) builder.suggestion(suggestion.value());
+
+        return builder.build();
+    }
+
+    private static @NotNull Class<?> getElementType(
+            final @NotNull Class<? extends BaseCommand> commandClass,
+            final @NotNull Method method,
+            final @NotNull Parameter parameter
+    ) {
+        final Class<?> type = parameter.getType();
+        if (type.isArray()) return type.getComponentType();
+        if (CollectionType.of(type) == null) return type;
+
+        final Type parameterizedType = parameter.getParameterizedType();
+        final Type[] types = parameterizedType instanceof ParameterizedType
+                ? ((ParameterizedType) parameterizedType).getActualTypeArguments()
+                : new Type[0];
+
+        if (types.length != 1) {
+            throw new SubCommandRegistrationException("Unsupported collection type \"" + type + "\"", method, commandClass);
+        }
+
+        final Type genericType = types[0];
+        return (Class<?>) (genericType instanceof WildcardType ? ((WildcardType) genericType).getUpperBounds()[0] : genericType);
+    }
+
+    private static @NotNull String @NotNull [] lowerCase(final @NotNull String @NotNull [] values) {
+        return Arrays.stream(values).map(String::toLowerCase).toArray(String[]::new);
+    }
+
+    private static @NotNull List<@NotNull Flag> getFlags(final @NotNull Method method) {
+        final CommandFlags flags = method.getAnnotation(CommandFlags.class);
+        if (flags != null) return Arrays.asList(flags.value());
+
+        final Flag flag = method.getAnnotation(Flag.class);
+        if (flag == null) return Collections.emptyList();
+        return Collections.singletonList(flag);
+    }
+
+    private static @NotNull List<@NotNull Requirement> getRequirements(final @NotNull Method method) {
+        final Requirements requirements = method.getAnnotation(Requirements.class);
+        if (requirements != null) return Arrays.asList(requirements.value());
+
+        final Requirement requirement = method.getAnnotation(Requirement.class);
+        if (requirement == null) return Collections.emptyList();
+        return Collections.singletonList(requirement);
+    }
+
+    private static @NotNull List<@NotNull Suggestion> getSuggestions(final @NotNull Method method) {
+        final Suggestions suggestions = method.getAnnotation(Suggestions.class);
+        if (suggestions != null) return Arrays.asList(suggestions.value());
+
+        final Suggestion suggestion = method.getAnnotation(Suggestion.class);
+        if (suggestion == null) return Collections.emptyList();
+        return Collections.singletonList(suggestion);
+    }
+}
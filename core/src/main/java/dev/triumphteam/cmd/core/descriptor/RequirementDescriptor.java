@@ -0,0 +1,78 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The data of a single {@link dev.triumphteam.cmd.core.annotation.Requirement} annotation.
+ */
+public final class RequirementDescriptor {
+
+    private final String key;
+    private final String messageKey;
+    private final boolean invert;
+
+    private RequirementDescriptor(final @NotNull String key, final @Nullable String messageKey, final boolean invert) {
+        this.key = key;
+        this.messageKey = messageKey;
+        this.invert = invert;
+    }
+
+    /**
+     * Creates a new requirement descriptor.
+     *
+     * @param key        The requirement key.
+     * @param messageKey The message key, empty or null if none.
+     * @param invert     Whether the requirement is inverted.
+     * @return A new {@link RequirementDescriptor}.
+     */
+    @Contract("_, _, _ -> new")
+    public static @NotNull RequirementDescriptor of(final @NotNull String key, final @Nullable String messageKey, final boolean invert) {
+        return new RequirementDescriptor(key, FlagDescriptor.emptyToNull(messageKey), invert);
+    }
+
+    public @NotNull String getKey() {
+        return key;
+    }
+
+    public @Nullable String getMessageKey() {
+        return messageKey;
+    }
+
+    public boolean isInvert() {
+        return invert;
+    }
+
+    @Override
+    public String toString() {
+        return "RequirementDescriptor{" +
+                "key='" + key + '\'' +
+                ", messageKey='" + messageKey + '\'' +
+                ", invert=" + invert +
+                '}';
+    }
+}
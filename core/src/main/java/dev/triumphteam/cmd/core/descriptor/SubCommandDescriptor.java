@@ -0,0 +1,231 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Everything the sub command processor needs from a sub command method, without touching its annotations.
+ */
+public final class SubCommandDescriptor {
+
+    private final String methodName;
+    private final List<Class<?>> parameterTypes;
+
+    private final String name;
+    private final List<String> alias;
+    private final boolean isDefault;
+    private final boolean isAsync;
+
+    private final String description;
+    private final List<String> argDescriptions;
+
+    private final List<FlagDescriptor> flags;
+    private final List<RequirementDescriptor> requirements;
+    private final List<String> suggestions;
+    private final String namedArguments;
+    private final List<ArgumentDescriptor> arguments;
+
+    private final MethodInvoker generatedInvoker;
+
+    // Only resolved when something actually needs the reflective method.
+    private volatile Method method;
+    private volatile MethodInvoker reflectiveInvoker;
+
+    SubCommandDescriptor(final @NotNull SubCommandDescriptorBuilder builder) {
+        this.methodName = builder.getMethodName();
+        this.parameterTypes = builder.getParameterTypes();
+        this.name = builder.getName();
+        this.alias = builder.getAlias();
+        this.isDefault = builder.isDefault();
+        this.isAsync = builder.isAsync();
+        this.description = builder.getDescription();
+        this.argDescriptions = builder.getArgDescriptions();
+        this.flags = builder.getFlags();
+        this.requirements = builder.getRequirements();
+        this.suggestions = builder.getSuggestions();
+        this.namedArguments = builder.getNamedArguments();
+        this.arguments = builder.getArguments();
+        this.generatedInvoker = builder.getInvoker();
+        this.method = builder.getMethod();
+    }
+
+    /**
+     * Creates a builder for the sub command declared by the given method.
+     *
+     * @param methodName     The name of the method.
+     * @param parameterTypes The erased parameter types of the method, starting with the sender.
+     * @return A new {@link SubCommandDescriptorBuilder}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull SubCommandDescriptorBuilder builder(final @NotNull String methodName, final @NotNull Class<?> @NotNull ... parameterTypes) {
+        return new SubCommandDescriptorBuilder(methodName, parameterTypes);
+    }
+
+    public @NotNull String getMethodName() {
+        return methodName;
+    }
+
+    public @NotNull List<@NotNull Class<?>> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Gets the type of the first parameter, which is the sender.
+     *
+     * @return The sender type, or null if the method has no parameters.
+     */
+    public @Nullable Class<?> getSenderType() {
+        return parameterTypes.isEmpty() ? null : parameterTypes.get(0);
+    }
+
+    /**
+     * Gets the sub command name, already lower case.
+     * Default sub commands use {@link dev.triumphteam.cmd.core.annotation.Default#DEFAULT_CMD_NAME}.
+     *
+     * @return The sub command name.
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public @NotNull List<@NotNull String> getAlias() {
+        return alias;
+    }
+
+    public boolean isDefault() {
+        return isDefault;
+    }
+
+    public boolean isAsync() {
+        return isAsync;
+    }
+
+    public @Nullable String getDescription() {
+        return description;
+    }
+
+    public @NotNull List<@NotNull String> getArgDescriptions() {
+        return argDescriptions;
+    }
+
+    public @NotNull List<@NotNull FlagDescriptor> getFlags() {
+        return flags;
+    }
+
+    public @NotNull List<@NotNull RequirementDescriptor> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Gets the method level suggestion keys, in argument order, an empty key means no suggestion.
+     *
+     * @return The suggestion keys.
+     */
+    public @NotNull List<@NotNull String> getSuggestions() {
+        return suggestions;
+    }
+
+    public @Nullable String getNamedArguments() {
+        return namedArguments;
+    }
+
+    public @NotNull List<@NotNull ArgumentDescriptor> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Whether this descriptor carries a generated direct-call invoker.
+     *
+     * @return True if generated at compile time.
+     */
+    public boolean isGenerated() {
+        return generatedInvoker != null;
+    }
+
+    /**
+     * Gets the invoker for the method, the generated one when available, otherwise a reflective one.
+     *
+     * @param commandClass The class declaring the method.
+     * @return The {@link MethodInvoker}.
+     */
+    public @NotNull MethodInvoker getInvoker(final @NotNull Class<? extends BaseCommand> commandClass) {
+        if (generatedInvoker != null) return generatedInvoker;
+
+        MethodInvoker invoker = reflectiveInvoker;
+        if (invoker != null) return invoker;
+
+        final Method method = getMethod(commandClass);
+        invoker = (command, args) -> {
+            try {
+                return method.invoke(command, args);
+            } catch (final InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        };
+        reflectiveInvoker = invoker;
+        return invoker;
+    }
+
+    /**
+     * Resolves the reflective method, only needed by platforms that read their own annotations.
+     *
+     * @param commandClass The class declaring the method.
+     * @return The {@link Method}.
+     */
+    public @NotNull Method getMethod(final @NotNull Class<? extends BaseCommand> commandClass) {
+        Method method = this.method;
+        if (method != null) return method;
+
+        try {
+            method = commandClass.getDeclaredMethod(methodName, parameterTypes.toArray(new Class<?>[0]));
+        } catch (final NoSuchMethodException exception) {
+            throw new CommandRegistrationException("Could not find sub command method \"" + methodName + "\"", commandClass);
+        }
+
+        this.method = method;
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "SubCommandDescriptor{" +
+                "methodName='" + methodName + '\'' +
+                ", name='" + name + '\'' +
+                ", alias=" + alias +
+                ", isDefault=" + isDefault +
+                ", isAsync=" + isAsync +
+                ", arguments=" + arguments +
+                ", generated=" + isGenerated() +
+                '}';
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.descriptor;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builder for {@link SubCommandDescriptor}, used by generated descriptors and the reflective reader alike.
+ */
+public final class SubCommandDescriptorBuilder {
+
+    private final String methodName;
+    private final List<Class<?>> parameterTypes;
+
+    private String name;
+    private final List<String> alias = new ArrayList<>();
+    private boolean isDefault = false;
+    private boolean isAsync = false;
+
+    private String description;
+    private final List<String> argDescriptions = new ArrayList<>();
+
+    private final List<FlagDescriptor> flags = new ArrayList<>();
+    private final List<RequirementDescriptor> requirements = new ArrayList<>();
+    private final List<String> suggestions = new ArrayList<>();
+    private String namedArguments;
+    private final List<ArgumentDescriptor> arguments = new ArrayList<>();
+
+    private MethodInvoker invoker;
+    private Method method;
+
+    SubCommandDescriptorBuilder(final @NotNull String methodName, final @NotNull Class<?> @NotNull [] parameterTypes) {
+        this.methodName = methodName;
+        this.parameterTypes = Collections.unmodifiableList(Arrays.asList(parameterTypes.clone()));
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder name(final @NotNull String name) {
+        this.name = name;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder alias(final @NotNull String @NotNull ... alias) {
+        Collections.addAll(this.alias, alias);
+        return this;
+    }
+
+    @Contract(" -> this")
+    public @NotNull SubCommandDescriptorBuilder setDefault() {
+        this.isDefault = true;
+        return this;
+    }
+
+    @Contract(" -> this")
+    public @NotNull SubCommandDescriptorBuilder async() {
+        this.isAsync = true;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder description(final @Nullable String description) {
+        this.description = description;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder argDescriptions(final @NotNull String @NotNull ... argDescriptions) {
+        Collections.addAll(this.argDescriptions, argDescriptions);
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder flag(final @NotNull FlagDescriptor flag) {
+        flags.add(flag);
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder requirement(final @NotNull RequirementDescriptor requirement) {
+        requirements.add(requirement);
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder suggestions(final @NotNull String @NotNull ... suggestions) {
+        Collections.addAll(this.suggestions, suggestions);
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder namedArguments(final @Nullable String namedArguments) {
+        this.namedArguments = namedArguments;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder argument(final @NotNull ArgumentDescriptor argument) {
+        arguments.add(argument);
+        return this;
+    }
+
+    /**
+     * Sets the direct-call invoker, only generated descriptors have one.
+     *
+     * @param invoker The invoker.
+     * @return This builder.
+     */
+    @Contract("_ -> this")
+    public @NotNull SubCommandDescriptorBuilder invoker(final @NotNull MethodInvoker invoker) {
+        this.invoker = invoker;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    @NotNull SubCommandDescriptorBuilder method(final @NotNull Method method) {
+        this.method = method;
+        return this;
+    }
+
+    /**
+     * Builds the sub command descriptor.
+     *
+     * @return A new {@link SubCommandDescriptor} with the data from this builder.
+     */
+    @Contract(" -> new")
+    public @NotNull SubCommandDescriptor build() {
+        if (name == null) throw new IllegalStateException("Sub command descriptor for \"" + methodName + "\" is missing a name");
+        return new SubCommandDescriptor(this);
+    }
+
+    @NotNull String getMethodName() {
+        return methodName;
+    }
+
+    @NotNull List<Class<?>> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    @NotNull String getName() {
+        return name;
+    }
+
+    @NotNull List<String> getAlias() {
+        return Collections.unmodifiableList(new ArrayList<>(alias));
+    }
+
+    boolean isDefault() {
+        return isDefault;
+    }
+
+    boolean isAsync() {
+        return isAsync;
+    }
+
+    @Nullable String getDescription() {
+        return description;
+    }
+
+    @NotNull List<String> getArgDescriptions() {
+        return Collections.unmodifiableList(new ArrayList<>(argDescriptions));
+    }
+
+    @NotNull List<FlagDescriptor> getFlags() {
+        return Collections.unmodifiableList(new ArrayList<>(flags));
+    }
+
+    @NotNull List<RequirementDescriptor> getRequirements() {
+        return Collections.unmodifiableList(new ArrayList<>(requirements));
+    }
+
+    @NotNull List<String> getSuggestions() {
+        return Collections.unmodifiableList(new ArrayList<>(suggestions));
+    }
+
+    @Nullable String getNamedArguments() {
+        return namedArguments;
+    }
+
+    @NotNull List<ArgumentDescriptor> getArguments() {
+        return Collections.unmodifiableList(new ArrayList<>(arguments));
+    }
+
+    @Nullable MethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    @Nullable Method getMethod() {
+        return method;
+    }
+}
@@ -29,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Throws when the command execution fails.
+ * Failures while dispatching skip capturing the stack trace unless the manager is in debug mode, the cause keeps its own.
  */
 public final class CommandExecutionException extends RuntimeException {
 
@@ -44,6 +45,20 @@ public final class CommandExecutionException extends RuntimeException {
         super(message + ". On \"" + parent + "\" command on \"" + command + "\" sub command.");
     }
 
+    public CommandExecutionException(final @NotNull String message, final boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    public CommandExecutionException(
+            final @NotNull String message,
+            final @NotNull String parent,
+            final @NotNull String command,
+            final @NotNull Throwable cause,
+            final boolean writableStackTrace
+    ) {
+        super(message + ". On \"" + parent + "\" command on \"" + command + "\" sub command.", cause, true, writableStackTrace);
+    }
+
     @Contract("_ -> this")
     @Override
     public synchronized @NotNull CommandExecutionException initCause(final @Nullable Throwable cause) {
@@ -35,6 +35,10 @@ public final class CommandRegistrationException extends RuntimeException {
         super(message);
     }
 
+    public CommandRegistrationException(final @NotNull String message, final @NotNull Throwable cause) {
+        super(message, cause);
+    }
+
     public CommandRegistrationException(
             final @NotNull String message,
             final @NotNull Class<? extends BaseCommand> commandClass
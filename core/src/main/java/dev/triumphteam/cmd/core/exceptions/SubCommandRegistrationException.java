@@ -38,7 +38,15 @@ public final class SubCommandRegistrationException extends RuntimeException {
             final @NotNull Method method,
             final @NotNull Class<? extends BaseCommand> commandClass
     ) {
-        super(message + ". In Method \"" + method.getName() + "\" in Class \"" + commandClass.getName() + "\"");
+        this(message, method.getName(), commandClass);
+    }
+
+    public SubCommandRegistrationException(
+            final @NotNull String message,
+            final @NotNull String methodName,
+            final @NotNull Class<? extends BaseCommand> commandClass
+    ) {
+        super(message + ". In Method \"" + methodName + "\" in Class \"" + commandClass.getName() + "\"");
     }
 
 }
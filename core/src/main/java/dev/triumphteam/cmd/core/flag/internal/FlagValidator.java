@@ -50,6 +50,20 @@ public final class FlagValidator {
             final @Nullable String flag,
             final @NotNull Method method,
             final @NotNull BaseCommand baseCommand
+    ) {
+        validate(flag, method.getName(), baseCommand);
+    }
+
+    /**
+     * Checks whether the flag contains illegal characters.
+     *
+     * @param flag       The {@link String} flag.
+     * @param methodName The name of the method from the registration so that better error message can be thrown.
+     */
+    public static void validate(
+            final @Nullable String flag,
+            final @NotNull String methodName,
+            final @NotNull BaseCommand baseCommand
     ) {
         if (flag == null) return;
 
@@ -58,7 +72,7 @@ public final class FlagValidator {
             char character = flag.charAt(0);
 
             if (!isValidFlag(character)) {
-                throw new SubCommandRegistrationException("Illegal flag name \"" + character + "\"", method, baseCommand.getClass());
+                throw new SubCommandRegistrationException("Illegal flag name \"" + character + "\"", methodName, baseCommand.getClass());
             }
 
             return;
@@ -69,7 +83,7 @@ public final class FlagValidator {
             if (!isValidChar(character)) {
                 throw new SubCommandRegistrationException(
                         "The flag \"" + flag + "\" contains an illegal character \"" + character + "\"",
-                        method,
+                        methodName,
                         baseCommand.getClass()
                 );
             }
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.jfr;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Entry point for the Java Flight Recorder events emitted by the command dispatch.
+ * This is the Java 8 version, where JFR is not available, so no event is ever started.
+ * On Java 11+ the multi-release jar replaces it with one that starts the events when their type is enabled.
+ */
+public final class CommandEvents {
+
+    private CommandEvents() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Starts an event covering the whole dispatch of a sub command.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param senderType The sender type of the sub command.
+     * @return The started event or null if the event type is not enabled.
+     */
+    public static @Nullable CommandEvent dispatch(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull Class<?> senderType
+    ) {
+        return null;
+    }
+
+    /**
+     * Starts an event covering the resolution of the arguments of a sub command.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param senderType The sender type of the sub command.
+     * @return The started event or null if the event type is not enabled.
+     */
+    public static @Nullable CommandEvent argumentResolution(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull Class<?> senderType
+    ) {
+        return null;
+    }
+
+    /**
+     * Starts an event covering the requirement checks of a sub command.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param senderType The sender type of the sub command.
+     * @return The started event or null if the event type is not enabled.
+     */
+    public static @Nullable CommandEvent requirementCheck(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull Class<?> senderType
+    ) {
+        return null;
+    }
+
+    /**
+     * Starts an event covering the suggestion computation of a sub command.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param senderType The sender type of the sub command.
+     * @return The started event or null if the event type is not enabled.
+     */
+    public static @Nullable CommandEvent suggestion(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull Class<?> senderType
+    ) {
+        return null;
+    }
+
+    /**
+     * Starts an event covering the time an async sub command waits before it starts executing.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param senderType The sender type of the sub command.
+     * @return The started event or null if the event type is not enabled.
+     */
+    public static @Nullable CommandEvent asyncHandOff(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull Class<?> senderType
+    ) {
+        return null;
+    }
+}
@@ -41,6 +41,8 @@ public class MessageKey<C extends MessageContext> extends ContextualKey<C> {
     public static final MessageKey<DefaultMessageContext> TOO_MANY_ARGUMENTS = of("too.many.arguments", DefaultMessageContext.class);
     public static final MessageKey<DefaultMessageContext> NOT_ENOUGH_ARGUMENTS = of("not.enough.arguments", DefaultMessageContext.class);
     public static final MessageKey<InvalidArgumentContext> INVALID_ARGUMENT = of("invalid.argument", InvalidArgumentContext.class);
+    public static final MessageKey<DefaultMessageContext> COMMAND_DISABLED = of("command.disabled", DefaultMessageContext.class);
+    public static final MessageKey<DefaultMessageContext> NO_PERMISSION = of("no.permission", DefaultMessageContext.class);
 
     protected MessageKey(final @NotNull String key, final @NotNull Class<C> type) {
         super(key, type);
@@ -25,10 +25,9 @@ package dev.triumphteam.cmd.core.message;
 
 import dev.triumphteam.cmd.core.message.context.MessageContext;
 import dev.triumphteam.cmd.core.registry.Registry;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Registry with all the messages that'll be sent to the user.
@@ -37,7 +36,7 @@ import java.util.Map;
  */
 public final class MessageRegistry<S> implements Registry {
 
-    private final Map<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages = new HashMap<>();
+    private final SnapshotMap<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages = new SnapshotMap<>();
 
     /**
      * Registers a new message to be used by the plugin.
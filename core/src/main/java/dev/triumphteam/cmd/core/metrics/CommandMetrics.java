@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Metrics SPI for the command dispatch.
+ * Recorders are obtained once per command and sub command when they are created, so the metrics must be set before registering commands.
+ */
+public interface CommandMetrics {
+
+    /**
+     * Whether the metrics are collected or not.
+     * Dispatch skips all the timing when this is false.
+     *
+     * @return True if enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Gets the recorder for the given command and sub command.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name, empty for stages that happen before a sub command is known.
+     * @return The recorder for it.
+     */
+    @NotNull StageRecorder recorder(final @NotNull String command, final @NotNull String subCommand);
+
+    /**
+     * Creates a snapshot of everything recorded so far.
+     *
+     * @return The metrics snapshot.
+     */
+    @NotNull MetricsSnapshot snapshot();
+
+    /**
+     * Metrics implementation that does nothing, used by default.
+     *
+     * @return The no-op metrics.
+     */
+    static @NotNull CommandMetrics noop() {
+        return NoOpCommandMetrics.INSTANCE;
+    }
+
+    /**
+     * Creates the default lock-free metrics implementation.
+     *
+     * @return A new {@link CommandMetrics}.
+     */
+    @Contract(" -> new")
+    static @NotNull CommandMetrics create() {
+        return new DefaultCommandMetrics();
+    }
+}
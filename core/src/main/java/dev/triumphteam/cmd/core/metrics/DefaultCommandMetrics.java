@@ -0,0 +1,89 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free {@link CommandMetrics} implementation.
+ * Keeps one {@link LatencyHistogram} per command, sub command and stage, created on first use.
+ */
+final class DefaultCommandMetrics implements CommandMetrics {
+
+    private static final DispatchStage[] STAGES = DispatchStage.values();
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public @NotNull StageRecorder recorder(final @NotNull String command, final @NotNull String subCommand) {
+        return recorders.computeIfAbsent(command + ' ' + subCommand, key -> new Recorder(command, subCommand));
+    }
+
+    @Override
+    public @NotNull MetricsSnapshot snapshot() {
+        final List<StageSnapshot> stages = new ArrayList<>();
+        for (final Recorder recorder : recorders.values()) {
+            for (final DispatchStage stage : STAGES) {
+                final LatencyHistogram histogram = recorder.histograms.get(stage.ordinal());
+                if (histogram == null) continue;
+                stages.add(new StageSnapshot(recorder.command, recorder.subCommand, stage, histogram));
+            }
+        }
+        return new MetricsSnapshot(stages);
+    }
+
+    private static final class Recorder implements StageRecorder {
+
+        private final String command;
+        private final String subCommand;
+        private final AtomicReferenceArray<LatencyHistogram> histograms = new AtomicReferenceArray<>(STAGES.length);
+
+        private Recorder(final @NotNull String command, final @NotNull String subCommand) {
+            this.command = command;
+            this.subCommand = subCommand;
+        }
+
+        @Override
+        public void record(final @NotNull DispatchStage stage, final long nanos) {
+            final int index = stage.ordinal();
+            LatencyHistogram histogram = histograms.get(index);
+            if (histogram == null) {
+                histograms.compareAndSet(index, null, new LatencyHistogram());
+                histogram = histograms.get(index);
+            }
+            histogram.record(nanos);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-bucketed histogram of nanosecond durations.
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so reported values are within 12.5% of the recorded ones.
+ * Values bigger than 2^40 nanoseconds (around 18 minutes) are counted in the last bucket.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds, negative values are counted as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        total.add(value);
+
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Gets how many values were recorded.
+     *
+     * @return The amount of recorded values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the biggest recorded value.
+     *
+     * @return The max value in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean in nanoseconds.
+     */
+    public double getMean() {
+        final long count = this.count.sum();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * Gets the value at the given percentile.
+     * The value is the upper bound of the bucket it falls in, capped by the max value.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile in nanoseconds.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+
+        if (recorded == 0) return 0;
+
+        final long target = Math.max(1, (long) Math.ceil(recorded * (Math.min(100, Math.max(0, percentile)) / 100)));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(upperBoundOf(i), getMax());
+        }
+
+        return getMax();
+    }
+
+    private static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(value));
+        if (exponent == MAX_EXPONENT && value >= (1L << (MAX_EXPONENT + 1))) return BUCKETS - 1;
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        final long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Point in time view of all the recorded {@link CommandMetrics}.
+ */
+public final class MetricsSnapshot {
+
+    private final List<StageSnapshot> stages;
+
+    MetricsSnapshot(final @NotNull List<@NotNull StageSnapshot> stages) {
+        this.stages = Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * Gets all the stages that have been recorded at least once.
+     *
+     * @return The stage snapshots.
+     */
+    public @NotNull List<@NotNull StageSnapshot> getStages() {
+        return stages;
+    }
+
+    /**
+     * Gets the recorded stages of a specific command.
+     *
+     * @param command The command name.
+     * @return The stage snapshots of the command and its sub commands.
+     */
+    public @NotNull List<@NotNull StageSnapshot> getStages(final @NotNull String command) {
+        return stages.stream().filter(it -> it.getCommand().equals(command)).collect(Collectors.toList());
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "MetricsSnapshot{" +
+                "stages=" + stages +
+                '}';
+    }
+}
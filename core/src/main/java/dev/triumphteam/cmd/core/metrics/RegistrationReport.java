@@ -0,0 +1,85 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time view of how long building the sub commands took.
+ * All durations are in nanoseconds.
+ */
+public final class RegistrationReport {
+
+    private final long[] nanos;
+    private final long subCommands;
+
+    RegistrationReport(final long @NotNull [] nanos, final long subCommands) {
+        this.nanos = nanos;
+        this.subCommands = subCommands;
+    }
+
+    /**
+     * Gets the total time spent on the given stage.
+     *
+     * @param stage The stage.
+     * @return The time spent, in nanoseconds.
+     */
+    public long getNanos(final @NotNull RegistrationStage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    /**
+     * Gets the total time spent on all stages.
+     *
+     * @return The time spent, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (final long value : nanos) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * Gets how many sub commands have been fully built.
+     *
+     * @return The amount of built sub commands.
+     */
+    public long getSubCommands() {
+        return subCommands;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("RegistrationReport{subCommands=").append(subCommands);
+        for (final RegistrationStage stage : RegistrationStage.values()) {
+            builder.append(", ").append(stage.name().toLowerCase()).append('=')
+                    .append(TimeUnit.NANOSECONDS.toMicros(getNanos(stage))).append("us");
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates how long building the sub commands took, split by {@link RegistrationStage}.
+ * Safe to record from any thread, since sub commands can be built in parallel or on first use.
+ */
+public final class RegistrationTimings {
+
+    private static final RegistrationStage[] STAGES = RegistrationStage.values();
+
+    private final LongAdder[] nanos = new LongAdder[STAGES.length];
+    private final LongAdder subCommands = new LongAdder();
+
+    public RegistrationTimings() {
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the duration of a stage.
+     *
+     * @param stage The stage that was completed.
+     * @param nanos How long the stage took, in nanoseconds.
+     */
+    public void record(final @NotNull RegistrationStage stage, final long nanos) {
+        this.nanos[stage.ordinal()].add(nanos);
+    }
+
+    /**
+     * Marks a sub command as fully built.
+     */
+    public void recordSubCommand() {
+        subCommands.increment();
+    }
+
+    /**
+     * Creates a point in time report of the recorded timings.
+     *
+     * @return The current report.
+     */
+    public @NotNull RegistrationReport snapshot() {
+        final long[] values = new long[nanos.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nanos[i].sum();
+        }
+
+        return new RegistrationReport(values, subCommands.sum());
+    }
+}
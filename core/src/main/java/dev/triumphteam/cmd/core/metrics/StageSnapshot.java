@@ -0,0 +1,109 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Point in time view of a single stage of a command or sub command.
+ * All durations are in nanoseconds.
+ */
+public final class StageSnapshot {
+
+    private final String command;
+    private final String subCommand;
+    private final DispatchStage stage;
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p99;
+    private final long max;
+
+    StageSnapshot(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull DispatchStage stage,
+            final @NotNull LatencyHistogram histogram
+    ) {
+        this.command = command;
+        this.subCommand = subCommand;
+        this.stage = stage;
+        this.count = histogram.getCount();
+        this.mean = histogram.getMean();
+        this.p50 = histogram.getValueAtPercentile(50);
+        this.p99 = histogram.getValueAtPercentile(99);
+        this.max = histogram.getMax();
+    }
+
+    public @NotNull String getCommand() {
+        return command;
+    }
+
+    /**
+     * Gets the sub command name.
+     *
+     * @return The sub command name, empty for command level stages like sender mapping.
+     */
+    public @NotNull String getSubCommand() {
+        return subCommand;
+    }
+
+    public @NotNull DispatchStage getStage() {
+        return stage;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "StageSnapshot{" +
+                "command='" + command + '\'' +
+                ", subCommand='" + subCommand + '\'' +
+                ", stage=" + stage +
+                ", count=" + count +
+                ", mean=" + mean +
+                ", p50=" + p50 +
+                ", p99=" + p99 +
+                ", max=" + max +
+                '}';
+    }
+}
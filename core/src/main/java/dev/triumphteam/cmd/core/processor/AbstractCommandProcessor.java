@@ -25,17 +25,21 @@ package dev.triumphteam.cmd.core.processor;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.annotation.Command;
 import dev.triumphteam.cmd.core.annotation.Description;
+import dev.triumphteam.cmd.core.descriptor.CommandDescriptor;
+import dev.triumphteam.cmd.core.descriptor.CommandDescriptors;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.metrics.RegistrationStage;
+import dev.triumphteam.cmd.core.metrics.RegistrationTimings;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -67,6 +71,8 @@ public abstract class AbstractCommandProcessor<SD, S, SC extends SubCommand<S>,
     private final ExecutionProvider syncExecutionProvider;
     private final ExecutionProvider asyncExecutionProvider;
 
+    private final boolean lazy;
+
     protected AbstractCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull RegistryContainer<S> registryContainer,
@@ -81,30 +87,93 @@ public abstract class AbstractCommandProcessor<SD, S, SC extends SubCommand<S>,
         this.senderValidator = senderValidator;
         this.syncExecutionProvider = syncExecutionProvider;
         this.asyncExecutionProvider = asyncExecutionProvider;
+        this.lazy = registryContainer.isLazySubCommands();
 
         extractCommandNames();
         extractDescription();
     }
 
-    // TODO: Comments
-    public void addSubCommands(final dev.triumphteam.cmd.core.@NotNull Command<S, SC> command) {
-        for (final Method method : baseCommand.getClass().getDeclaredMethods()) {
-            if (Modifier.isPrivate(method.getModifiers())) continue;
+    /**
+     * Creates every sub command of the command without adding them to any command.
+     * Only reads from the registries, so it can safely run away from the registering thread.
+     * When lazy sub commands are enabled only the names are read, the sub commands are built on first use.
+     *
+     * @return The sub commands, in declaration order.
+     */
+    public @NotNull List<@NotNull SubCommandHolder<S, SC>> createSubCommands() {
+        final RegistrationTimings timings = registryContainer.getRegistrationTimings();
+
+        final long start = System.nanoTime();
+        final CommandDescriptor commandDescriptor = CommandDescriptors.of(baseCommand.getClass(), registryContainer.getSnapshotCache());
+        timings.record(RegistrationStage.DESCRIPTOR, System.nanoTime() - start);
+
+        final List<SubCommandHolder<S, SC>> subCommands = new ArrayList<>();
+        for (final SubCommandDescriptor descriptor : commandDescriptor.getSubCommands()) {
+            if (!lazy) {
+                subCommands.add(SubCommandHolder.of(descriptor, buildSubCommand(descriptor)));
+                continue;
+            }
 
-            final P processor = createProcessor(method);
-            final String subCommandName = processor.getName();
-            if (subCommandName == null) continue;
+            final SubCommandHolder<S, SC> holder = SubCommandHolder.lazy(
+                    descriptor,
+                    () -> buildSubCommand(descriptor),
+                    registryContainer::removePendingSubCommand
+            );
+            registryContainer.addPendingSubCommand(holder);
+            subCommands.add(holder);
+        }
 
-            final ExecutionProvider executionProvider = processor.isAsync() ? asyncExecutionProvider : syncExecutionProvider;
+        return subCommands;
+    }
 
-            final SC subCommand = createSubCommand(processor, executionProvider);
-            command.addSubCommand(subCommandName, subCommand);
+    /**
+     * Creates the sub commands and adds them to the given command.
+     *
+     * @param command The command to add the sub commands to.
+     */
+    public void addSubCommands(final dev.triumphteam.cmd.core.@NotNull Command<S, SC> command) {
+        addSubCommands(command, createSubCommands());
+    }
 
-            processor.getAlias().forEach(alias -> command.addSubCommandAlias(alias, subCommand));
+    /**
+     * Adds already created sub commands, and their aliases, to the given command.
+     *
+     * @param command     The command to add the sub commands to.
+     * @param subCommands The sub commands created by {@link #createSubCommands()}.
+     */
+    public void addSubCommands(
+            final dev.triumphteam.cmd.core.@NotNull Command<S, SC> command,
+            final @NotNull List<@NotNull SubCommandHolder<S, SC>> subCommands
+    ) {
+        for (final SubCommandHolder<S, SC> subCommand : subCommands) {
+            command.addSubCommand(subCommand.getName(), subCommand);
+            subCommand.getAlias().forEach(alias -> command.addSubCommandAlias(alias, subCommand));
         }
     }
 
-    protected abstract @NotNull P createProcessor(final @NotNull Method method);
+    /**
+     * Fully builds a sub command, recording how long each stage took.
+     *
+     * @param descriptor The descriptor of the sub command.
+     * @return The built sub command.
+     */
+    private @NotNull SC buildSubCommand(final @NotNull SubCommandDescriptor descriptor) {
+        final RegistrationTimings timings = registryContainer.getRegistrationTimings();
+
+        final long start = System.nanoTime();
+        final P processor = createProcessor(descriptor);
+        final long processed = System.nanoTime();
+        timings.record(RegistrationStage.PROCESSING, processed - start);
+
+        final ExecutionProvider executionProvider = processor.isAsync() ? asyncExecutionProvider : syncExecutionProvider;
+        final SC subCommand = createSubCommand(processor, executionProvider);
+        timings.record(RegistrationStage.CONSTRUCTION, System.nanoTime() - processed);
+        timings.recordSubCommand();
+
+        return subCommand;
+    }
+
+    protected abstract @NotNull P createProcessor(final @NotNull SubCommandDescriptor descriptor);
 
     protected abstract @NotNull SC createSubCommand(final @NotNull P processor, final @NotNull ExecutionProvider executionProvider);
 
@@ -170,6 +239,15 @@ public abstract class AbstractCommandProcessor<SD, S, SC extends SubCommand<S>,
         return asyncExecutionProvider;
     }
 
+    /**
+     * Whether the sub commands of this command are only built on first use.
+     *
+     * @return True if the sub commands are lazy.
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
     /**
      * gets the Description of the SubCommand.
      *
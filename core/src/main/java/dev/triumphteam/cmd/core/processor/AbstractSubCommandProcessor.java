@@ -23,25 +23,15 @@
  */
 package dev.triumphteam.cmd.core.processor;
 
-import com.google.common.base.CaseFormat;
 import com.google.common.collect.Maps;
 import dev.triumphteam.cmd.core.BaseCommand;
-import dev.triumphteam.cmd.core.annotation.ArgDescriptions;
-import dev.triumphteam.cmd.core.annotation.ArgName;
-import dev.triumphteam.cmd.core.annotation.Async;
-import dev.triumphteam.cmd.core.annotation.CommandFlags;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.annotation.Description;
 import dev.triumphteam.cmd.core.annotation.Flag;
-import dev.triumphteam.cmd.core.annotation.Join;
-import dev.triumphteam.cmd.core.annotation.NamedArguments;
-import dev.triumphteam.cmd.core.annotation.Optional;
-import dev.triumphteam.cmd.core.annotation.Requirements;
-import dev.triumphteam.cmd.core.annotation.Split;
-import dev.triumphteam.cmd.core.annotation.Suggestions;
 import dev.triumphteam.cmd.core.argument.ArgumentRegistry;
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
 import dev.triumphteam.cmd.core.argument.CollectionInternalArgument;
+import dev.triumphteam.cmd.core.argument.CollectionType;
 import dev.triumphteam.cmd.core.argument.EnumInternalArgument;
 import dev.triumphteam.cmd.core.argument.FlagInternalArgument;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
@@ -56,6 +46,11 @@ import dev.triumphteam.cmd.core.argument.named.ArgumentKey;
 import dev.triumphteam.cmd.core.argument.named.Arguments;
 import dev.triumphteam.cmd.core.argument.named.ListArgument;
 import dev.triumphteam.cmd.core.argument.named.NamedArgumentRegistry;
+import dev.triumphteam.cmd.core.descriptor.ArgumentDescriptor;
+import dev.triumphteam.cmd.core.descriptor.FlagDescriptor;
+import dev.triumphteam.cmd.core.descriptor.MethodInvoker;
+import dev.triumphteam.cmd.core.descriptor.RequirementDescriptor;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.exceptions.SubCommandRegistrationException;
 import dev.triumphteam.cmd.core.flag.Flags;
 import dev.triumphteam.cmd.core.flag.internal.FlagGroup;
@@ -83,13 +78,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -98,9 +88,6 @@ import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
-
 /**
  * Abstracts most of the "extracting" from sub command annotations, allows for extending.
  * <br/>
@@ -115,15 +102,13 @@ public abstract class AbstractSubCommandProcessor<S> {
     private final BaseCommand baseCommand;
     private final String parentName;
 
-    private final Method method;
-    // Name is nullable to detect if the method should or not be considered a sub command.
-    private String name = null;
+    private final SubCommandDescriptor descriptor;
+    private final String name;
     // TODO: 11/28/2021 Add better default description
     private String description = "No description provided.";
-    private final List<String> argDescriptions = new ArrayList<>();
-    private final List<String> alias = new ArrayList<>();
+    private final List<String> alias;
 
-    private boolean isDefault = false;
+    private final boolean isDefault;
     private final boolean isAsync;
 
     private Class<? extends S> senderType;
@@ -141,19 +126,21 @@ public abstract class AbstractSubCommandProcessor<S> {
     private final MessageRegistry<S> messageRegistry;
     private final SenderValidator<S> senderValidator;
 
-    private static final Set<Class<?>> COLLECTIONS = new HashSet<>(Arrays.asList(List.class, Set.class));
-
     protected AbstractSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull RegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator
     ) {
         this.baseCommand = baseCommand;
         this.parentName = parentName;
 
-        this.method = method;
+        this.descriptor = descriptor;
+        this.name = descriptor.getName();
+        this.alias = descriptor.getAlias();
+        this.isDefault = descriptor.isDefault();
+        this.isAsync = descriptor.isAsync();
 
         this.registryContainer = registryContainer;
         this.suggestionRegistry = registryContainer.getSuggestionRegistry();
@@ -163,45 +150,36 @@ public abstract class AbstractSubCommandProcessor<S> {
         this.messageRegistry = registryContainer.getMessageRegistry();
         this.senderValidator = senderValidator;
 
-        this.isAsync = method.isAnnotationPresent(Async.class);
-
-        extractSubCommandNames();
-        if (name == null) return;
-
         extractFlags();
         extractRequirements();
         extractDescription();
-        extractArgDescriptions();
         extractSuggestions();
-        extractArguments(method);
+        extractArguments(descriptor);
         validateArguments();
     }
 
     /**
      * Allows for customizing the internalArgument parsing, for example <code>@Value</code> and <code>@Completion</code> annotations.
      *
-     * @param method The method to search from.
+     * @param descriptor The descriptor of the sub command.
      */
-    protected void extractArguments(final @NotNull Method method) {
-        final Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            final Parameter parameter = parameters[i];
-            if (i == 0) {
-                validateSender(parameter.getType());
-                continue;
-            }
+    protected void extractArguments(final @NotNull SubCommandDescriptor descriptor) {
+        final Class<?> senderType = descriptor.getSenderType();
+        if (senderType != null) validateSender(senderType);
 
-            createArgument(parameter, i - 1);
+        final List<ArgumentDescriptor> arguments = descriptor.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            createArgument(arguments.get(i), i);
         }
     }
 
     /**
      * Used for the child factories to get the sub command name.
-     * It's nullable because a method might not have a {@link dev.triumphteam.cmd.core.annotation.SubCommand} or {@link Default} annotation.
+     * Default sub commands use {@link Default#DEFAULT_CMD_NAME}.
      *
      * @return The sub command name.
      */
-    public @Nullable String getName() {
+    public @NotNull String getName() {
         return name;
     }
 
@@ -256,12 +234,31 @@ public abstract class AbstractSubCommandProcessor<S> {
     }
 
     /**
-     * Gets the method.
+     * Gets the descriptor this processor was built from.
+     *
+     * @return The sub command descriptor.
+     */
+    public @NotNull SubCommandDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Gets the method, resolved reflectively on first use.
+     * Only needed by platforms that read their own annotations from it.
      *
      * @return The method.
      */
     public @NotNull Method getMethod() {
-        return method;
+        return descriptor.getMethod(baseCommand.getClass());
+    }
+
+    /**
+     * Gets the invoker for the sub command method, a direct call when the descriptor was generated.
+     *
+     * @return The method invoker.
+     */
+    public @NotNull MethodInvoker getInvoker() {
+        return descriptor.getInvoker(baseCommand.getClass());
     }
 
     /**
@@ -299,7 +296,7 @@ public abstract class AbstractSubCommandProcessor<S> {
      */
     @Contract("_ -> new")
     protected @NotNull SubCommandRegistrationException createException(final @NotNull String message) {
-        return new SubCommandRegistrationException(message, method, baseCommand.getClass());
+        return new SubCommandRegistrationException(message, descriptor.getMethodName(), baseCommand.getClass());
     }
 
     /**
@@ -336,18 +333,18 @@ public abstract class AbstractSubCommandProcessor<S> {
     /**
      * Creates and adds the internalArgument to the arguments list.
      *
-     * @param parameter The current parameter to get data from.
+     * @param argument The descriptor of the current parameter.
+     * @param position The position of the argument.
      */
-    protected void createArgument(final @NotNull Parameter parameter, final int position) {
-        final Class<?> type = parameter.getType();
-        final String argumentName = getArgName(parameter);
-        final String argumentDescription = getArgumentDescription(parameter, position);
-        final boolean optional = parameter.isAnnotationPresent(Optional.class);
+    protected void createArgument(final @NotNull ArgumentDescriptor argument, final int position) {
+        final Class<?> type = argument.getType();
+        final String argumentName = argument.getName();
+        final String argumentDescription = getArgumentDescription(argument, position);
+        final boolean optional = argument.isOptional();
 
         // Handles collection internalArgument.
-        // TODO: Add more collection types.
-        if (COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type))) {
-            final Class<?> collectionType = getGenericType(parameter);
+        if (CollectionType.of(type) != null) {
+            final Class<?> collectionType = argument.getElementType();
             final InternalArgument<S, String> internalArgument = createSimpleArgument(
                     collectionType,
                     argumentName,
@@ -357,13 +354,13 @@ public abstract class AbstractSubCommandProcessor<S> {
                     true
             );
 
-            if (parameter.isAnnotationPresent(Split.class)) {
-                final Split splitAnnotation = parameter.getAnnotation(Split.class);
+            final String split = argument.getSplit();
+            if (split != null) {
                 addArgument(
                         new SplitStringInternalArgument<>(
                                 argumentName,
                                 argumentDescription,
-                                splitAnnotation.value(),
+                                split,
                                 internalArgument,
                                 type,
                                 suggestionList.get(position),
@@ -389,13 +386,13 @@ public abstract class AbstractSubCommandProcessor<S> {
         }
 
         // Handler for using String with `@Join`.
-        if (type == String.class && parameter.isAnnotationPresent(Join.class)) {
-            final Join joinAnnotation = parameter.getAnnotation(Join.class);
+        final String join = argument.getJoin();
+        if (type == String.class && join != null) {
             addArgument(
                     new JoinedStringInternalArgument<>(
                             argumentName,
                             argumentDescription,
-                            joinAnnotation.value(),
+                            join,
                             suggestionList.get(position),
                             position,
                             optional
@@ -424,16 +421,16 @@ public abstract class AbstractSubCommandProcessor<S> {
 
         // Handler for named arguments
         if (type == Arguments.class) {
-            final NamedArguments namedArguments = method.getAnnotation(NamedArguments.class);
+            final String namedArguments = descriptor.getNamedArguments();
             if (namedArguments == null) {
-                throw createException("TODO");
+                throw createException("Named arguments internalArgument detected but no named arguments annotation declared");
             }
 
             addArgument(
                     new NamedInternalArgument<>(
                             argumentName,
                             argumentDescription,
-                            collectNamedArgs(namedArguments.value()),
+                            collectNamedArgs(namedArguments),
                             position,
                             optional
                     )
@@ -473,7 +470,7 @@ public abstract class AbstractSubCommandProcessor<S> {
                                 listArgument.getDescription(),
                                 listArgument.getSeparator(),
                                 internalArgument,
-                                listArgument.getType(),
+                                listArgument.getCollectionType(),
                                 suggestion,
                                 0,
                                 true
@@ -495,34 +492,20 @@ public abstract class AbstractSubCommandProcessor<S> {
         }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    /**
-     * Gets the internalArgument name, either from the parameter or from the annotation.
-     * If the parameter is not annotated, turn the name from Camel Case to "lower-hyphen".
-     *
-     * @param parameter The parameter to get data from.
-     * @return The final internalArgument name.
-     */
-    private @NotNull String getArgName(final @NotNull Parameter parameter) {
-        if (parameter.isAnnotationPresent(ArgName.class)) {
-            return parameter.getAnnotation(ArgName.class).value();
-        }
-
-        return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, parameter.getName());
-    }
-
     /**
      * Gets the internalArgument description.
      *
-     * @param parameter The parameter to get data from.
-     * @param index     The index of the internalArgument.
+     * @param argument The argument to get data from.
+     * @param index    The index of the internalArgument.
      * @return The final internalArgument description.
      */
-    private @NotNull String getArgumentDescription(final @NotNull Parameter parameter, final int index) {
-        final Description description = parameter.getAnnotation(Description.class);
+    private @NotNull String getArgumentDescription(final @NotNull ArgumentDescriptor argument, final int index) {
+        final String description = argument.getDescription();
         if (description != null) {
-            return description.value();
+            return description;
         }
 
+        final List<String> argDescriptions = descriptor.getArgDescriptions();
         if (index < argDescriptions.size()) return argDescriptions.get(index);
         // TODO: 11/28/2021 Add better default description
         return "No description provided.";
@@ -592,55 +575,23 @@ public abstract class AbstractSubCommandProcessor<S> {
         internalArguments.add(internalArgument);
     }
 
-    /**
-     * Extracts the data from the method to retrieve the sub command name or the default name.
-     */
-    private void extractSubCommandNames() {
-        final Default defaultAnnotation = method.getAnnotation(Default.class);
-        final dev.triumphteam.cmd.core.annotation.SubCommand subCommandAnnotation = method.getAnnotation(dev.triumphteam.cmd.core.annotation.SubCommand.class);
-
-        if (defaultAnnotation == null && subCommandAnnotation == null) {
-            return;
-        }
-
-        if (defaultAnnotation != null) {
-            name = Default.DEFAULT_CMD_NAME;
-            alias.addAll(Arrays.stream(defaultAnnotation.alias()).map(String::toLowerCase).collect(Collectors.toList()));
-            isDefault = true;
-            return;
-        }
-
-        name = subCommandAnnotation.value().toLowerCase();
-        alias.addAll(Arrays.stream(subCommandAnnotation.alias()).map(String::toLowerCase).collect(Collectors.toList()));
-
-        if (this.name.isEmpty()) {
-            throw createException("@" + dev.triumphteam.cmd.core.annotation.SubCommand.class.getSimpleName() + " name must not be empty");
-        }
-    }
-
     /**
      * Extract all the flag data for the subcommand from the method.
      */
     private void extractFlags() {
-        final List<Flag> flags = getFlagsFromAnnotations();
-        if (flags.isEmpty()) return;
+        for (final FlagDescriptor flagDescriptor : descriptor.getFlags()) {
+            final String flag = flagDescriptor.getFlag();
+            FlagValidator.validate(flag, descriptor.getMethodName(), baseCommand);
 
-        for (final Flag flagAnnotation : flags) {
-            String flag = flagAnnotation.flag();
-            if (flag.isEmpty()) flag = null;
-            FlagValidator.validate(flag, method, baseCommand);
-
-            String longFlag = flagAnnotation.longFlag();
-            if (longFlag.contains(" ")) {
+            final String longFlag = flagDescriptor.getLongFlag();
+            if (longFlag != null && longFlag.contains(" ")) {
                 throw createException("@" + Flag.class.getSimpleName() + "'s identifiers must not contain spaces");
             }
 
-            if (longFlag.isEmpty()) longFlag = null;
-
-            final Class<?> argumentType = flagAnnotation.argument();
+            final Class<?> argumentType = flagDescriptor.getArgument();
 
-            final SuggestionKey suggestionKey = flagAnnotation.suggestion().isEmpty() ? null : SuggestionKey.of(flagAnnotation.suggestion());
-            final Suggestion<S> suggestion = createSuggestion(suggestionKey, flagAnnotation.argument());
+            final SuggestionKey suggestionKey = flagDescriptor.getSuggestion() == null ? null : SuggestionKey.of(flagDescriptor.getSuggestion());
+            final Suggestion<S> suggestion = createSuggestion(suggestionKey, argumentType);
 
             StringInternalArgument<S> internalArgument = null;
             if (argumentType != void.class) {
@@ -682,30 +633,16 @@ public abstract class AbstractSubCommandProcessor<S> {
         }
     }
 
-    /**
-     * Gets the flags from the annotations.
-     *
-     * @return The list of flags.
-     */
-    private @NotNull List<@NotNull Flag> getFlagsFromAnnotations() {
-        final CommandFlags flags = method.getAnnotation(CommandFlags.class);
-        if (flags != null) return Arrays.asList(flags.value());
-
-        final Flag flag = method.getAnnotation(Flag.class);
-        if (flag == null) return Collections.emptyList();
-        return Collections.singletonList(flag);
-    }
-
     /**
      * Extract all the requirement data for the sub command from the method.
      */
     public void extractRequirements() {
-        for (final dev.triumphteam.cmd.core.annotation.Requirement requirementAnnotation : getRequirementsFromAnnotations()) {
-            final RequirementKey requirementKey = RequirementKey.of(requirementAnnotation.value());
-            final String messageKeyValue = requirementAnnotation.messageKey();
+        for (final RequirementDescriptor requirementDescriptor : descriptor.getRequirements()) {
+            final RequirementKey requirementKey = RequirementKey.of(requirementDescriptor.getKey());
+            final String messageKeyValue = requirementDescriptor.getMessageKey();
 
             final MessageKey<MessageContext> messageKey;
-            if (messageKeyValue.isEmpty()) messageKey = null;
+            if (messageKeyValue == null) messageKey = null;
             else messageKey = MessageKey.of(messageKeyValue, MessageContext.class);
 
             final RequirementResolver<S> resolver = requirementRegistry.getRequirement(requirementKey);
@@ -713,24 +650,10 @@ public abstract class AbstractSubCommandProcessor<S> {
                 throw createException("Could not find Requirement Key \"" + requirementKey.getKey() + "\"");
             }
 
-            addRequirement(new Requirement<>(resolver, messageKey, DefaultMessageContext::new, requirementAnnotation.invert()));
+            addRequirement(new Requirement<>(resolver, messageKey, DefaultMessageContext::new, requirementDescriptor.isInvert()));
         }
     }
 
-    /**
-     * Gets the requirements from the annotations.
-     *
-     * @return The list of requirements.
-     */
-    private @NotNull List<dev.triumphteam.cmd.core.annotation.@NotNull Requirement> getRequirementsFromAnnotations() {
-        final Requirements requirements = method.getAnnotation(Requirements.class);
-        if (requirements != null) return Arrays.asList(requirements.value());
-
-        final dev.triumphteam.cmd.core.annotation.Requirement requirement = method.getAnnotation(dev.triumphteam.cmd.core.annotation.Requirement.class);
-        if (requirement == null) return Collections.emptyList();
-        return Collections.singletonList(requirement);
-    }
-
     /**
      * Gets a list of all the arg validations for the platform.
      * Defaults to just optional and limitless.
@@ -785,26 +708,16 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Extracts the {@link Description} Annotation from the Method.
      */
     private void extractDescription() {
-        final Description description = method.getAnnotation(Description.class);
+        final String description = descriptor.getDescription();
         if (description == null) return;
-        this.description = description.value();
-    }
-
-    /**
-     * Extracts the {@link ArgDescriptions} Annotation from the Method.
-     */
-    private void extractArgDescriptions() {
-        final ArgDescriptions argDescriptions = method.getAnnotation(ArgDescriptions.class);
-        if (argDescriptions == null) return;
-        this.argDescriptions.addAll(Arrays.asList(argDescriptions.value()));
+        this.description = description;
     }
 
     /**
      * Extract all suggestions from the method and parameters.
      */
     public void extractSuggestions() {
-        for (final dev.triumphteam.cmd.core.annotation.Suggestion suggestion : getSuggestionsFromAnnotations()) {
-            final String key = suggestion.value();
+        for (final String key : descriptor.getSuggestions()) {
             if (key.isEmpty()) {
                 suggestionList.add(new EmptySuggestion<>());
                 continue;
@@ -827,16 +740,14 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Adds the suggestions to the passed list.
      */
     private void extractSuggestionFromParams() {
-        final Parameter[] parameters = method.getParameters();
-        for (int i = 1; i < parameters.length; i++) {
-            final Parameter parameter = parameters[i];
+        final List<ArgumentDescriptor> arguments = descriptor.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            final ArgumentDescriptor argument = arguments.get(i);
 
-            final dev.triumphteam.cmd.core.annotation.Suggestion suggestion = parameter.getAnnotation(dev.triumphteam.cmd.core.annotation.Suggestion.class);
-            final SuggestionKey suggestionKey = suggestion == null ? null : SuggestionKey.of(suggestion.value());
+            final String suggestion = argument.getSuggestion();
+            final SuggestionKey suggestionKey = suggestion == null ? null : SuggestionKey.of(suggestion);
 
-            final Class<?> type = getGenericType(parameter);
-            final int addIndex = i - 1;
-            setOrAddSuggestion(addIndex, createSuggestion(suggestionKey, type));
+            setOrAddSuggestion(i, createSuggestion(suggestionKey, argument.getElementType()));
         }
     }
 
@@ -876,30 +787,4 @@ public abstract class AbstractSubCommandProcessor<S> {
         if (suggestion == null) return;
         suggestionList.set(index, suggestion);
     }
-
-    private @NotNull List<dev.triumphteam.cmd.core.annotation.@NotNull Suggestion> getSuggestionsFromAnnotations() {
-        final Suggestions requirements = method.getAnnotation(Suggestions.class);
-        if (requirements != null) return Arrays.asList(requirements.value());
-
-        final dev.triumphteam.cmd.core.annotation.Suggestion suggestion = method.getAnnotation(dev.triumphteam.cmd.core.annotation.Suggestion.class);
-        if (suggestion == null) return emptyList();
-        return singletonList(suggestion);
-    }
-
-    private @NotNull Class<?> getGenericType(final @NotNull Parameter parameter) {
-        final Class<?> type = parameter.getType();
-        if (COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type))) {
-            final ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-            final Type[] types = parameterizedType.getActualTypeArguments();
-
-            if (types.length != 1) {
-                throw createException("Unsupported collection type \"" + type + "\"");
-            }
-
-            final Type genericType = types[0];
-            return (Class<?>) (genericType instanceof WildcardType ? ((WildcardType) genericType).getUpperBounds()[0] : genericType);
-        }
-
-        return type;
-    }
 }
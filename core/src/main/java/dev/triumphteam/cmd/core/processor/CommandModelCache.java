@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the processed model of each command instance, so registering it in many guilds processes it only once.
+ * A model is rebuilt when the registry version changed since it was created, as it may depend on what was registered.
+ * Models of older versions are dropped as soon as a newer version is seen, they'd never be returned again.
+ *
+ * @param <M> The model type.
+ */
+public final class CommandModelCache<M> {
+
+    // Base commands don't override equals, so they're keyed by identity
+    private final Map<BaseCommand, Entry<M>> models = new ConcurrentHashMap<>();
+    private final AtomicLong latestVersion = new AtomicLong();
+
+    /**
+     * Gets the model of the command, creating it if there is none for the current version.
+     *
+     * @param baseCommand The command instance.
+     * @param version     The current registry version.
+     * @param factory     Creates the model.
+     * @return The shared model.
+     */
+    public @NotNull M get(final @NotNull BaseCommand baseCommand, final long version, final @NotNull Supplier<@NotNull M> factory) {
+        final Entry<M> cached = models.get(baseCommand);
+        if (cached != null && cached.version == version) return cached.model;
+
+        evictOlderThan(version);
+        return models.compute(baseCommand, (ignored, entry) -> {
+            if (entry != null && entry.version == version) return entry;
+            return new Entry<>(version, factory.get());
+        }).model;
+    }
+
+    private void evictOlderThan(final long version) {
+        final long latest = latestVersion.get();
+        if (version <= latest || !latestVersion.compareAndSet(latest, version)) return;
+
+        models.values().removeIf(entry -> entry.version < version);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CommandModelCache{" +
+                "models=" + models.size() +
+                '}';
+    }
+
+    private static final class Entry<M> {
+
+        private final long version;
+        private final M model;
+
+        private Entry(final long version, final @NotNull M model) {
+            this.version = version;
+            this.model = model;
+        }
+    }
+}
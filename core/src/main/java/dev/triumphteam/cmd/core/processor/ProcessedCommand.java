@@ -0,0 +1,64 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.SubCommandHolder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A processed command and its sub commands, immutable once created so it can be shared by every registration of the command.
+ *
+ * @param <P>  The command processor type.
+ * @param <S>  The sender type.
+ * @param <SC> The sub command type.
+ */
+public final class ProcessedCommand<P, S, SC extends SubCommand<S>> {
+
+    private final P processor;
+    private final List<SubCommandHolder<S, SC>> subCommands;
+
+    public ProcessedCommand(final @NotNull P processor, final @NotNull List<@NotNull SubCommandHolder<S, SC>> subCommands) {
+        this.processor = processor;
+        this.subCommands = subCommands;
+    }
+
+    public @NotNull P getProcessor() {
+        return processor;
+    }
+
+    public @NotNull List<@NotNull SubCommandHolder<S, SC>> getSubCommands() {
+        return subCommands;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ProcessedCommand{" +
+                "processor=" + processor +
+                ", subCommands=" + subCommands +
+                '}';
+    }
+}
@@ -23,12 +23,26 @@
  */
 package dev.triumphteam.cmd.core.registry;
 
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.argument.ArgumentRegistry;
 import dev.triumphteam.cmd.core.argument.named.NamedArgumentRegistry;
+import dev.triumphteam.cmd.core.descriptor.DescriptorSnapshotCache;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.metrics.RegistrationTimings;
 import dev.triumphteam.cmd.core.requirement.RequirementRegistry;
+import dev.triumphteam.cmd.core.result.MessageResultHandler;
+import dev.triumphteam.cmd.core.result.ResultHandler;
 import dev.triumphteam.cmd.core.suggestion.SuggestionRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class RegistryContainer<S> {
 
@@ -38,6 +52,18 @@ public class RegistryContainer<S> {
     private final MessageRegistry<S> messageRegistry = new MessageRegistry<>();
     private final SuggestionRegistry<S> suggestionRegistry = new SuggestionRegistry<>();
 
+    private volatile ResultHandler<S> resultHandler = new MessageResultHandler<>(messageRegistry);
+    private volatile CommandMetrics metrics = CommandMetrics.noop();
+    private volatile DescriptorSnapshotCache snapshotCache = null;
+
+    private final RegistrationTimings registrationTimings = new RegistrationTimings();
+    // Weak so holders of commands that were replaced or unregistered don't stay around until a warm up.
+    private final Set<SubCommandHolder<S, ?>> pendingSubCommands = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private volatile boolean lazySubCommands = false;
+    private volatile boolean debug = false;
+
+    private final AtomicLong version = new AtomicLong();
+
     public @NotNull ArgumentRegistry<S> getArgumentRegistry() {
         return argumentRegistry;
     }
@@ -57,4 +83,97 @@ public class RegistryContainer<S> {
     public @NotNull SuggestionRegistry<S> getSuggestionRegistry() {
         return suggestionRegistry;
     }
+
+    public @NotNull ResultHandler<S> getResultHandler() {
+        return resultHandler;
+    }
+
+    public void setResultHandler(final @NotNull ResultHandler<S> resultHandler) {
+        this.resultHandler = resultHandler;
+    }
+
+    public @NotNull CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(final @NotNull CommandMetrics metrics) {
+        this.metrics = metrics;
+        incrementVersion();
+    }
+
+    public @Nullable DescriptorSnapshotCache getSnapshotCache() {
+        return snapshotCache;
+    }
+
+    public void setSnapshotCache(final @Nullable DescriptorSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    public @NotNull RegistrationTimings getRegistrationTimings() {
+        return registrationTimings;
+    }
+
+    public boolean isLazySubCommands() {
+        return lazySubCommands;
+    }
+
+    public void setLazySubCommands(final boolean lazySubCommands) {
+        this.lazySubCommands = lazySubCommands;
+        incrementVersion();
+    }
+
+    /**
+     * Gets the registry version, which changes whenever something that processed commands depend on is registered.
+     *
+     * @return The current version.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Marks the processed commands as outdated, so shared command models are rebuilt on their next registration.
+     */
+    public void incrementVersion() {
+        version.incrementAndGet();
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public void setDebug(final boolean debug) {
+        this.debug = debug;
+    }
+
+    /**
+     * Keeps track of a sub command that hasn't been built yet, so it can be built by {@link #materializeSubCommands()}.
+     *
+     * @param holder The lazy sub command.
+     */
+    public void addPendingSubCommand(final @NotNull SubCommandHolder<S, ?> holder) {
+        pendingSubCommands.add(holder);
+    }
+
+    /**
+     * Stops tracking a lazy sub command, called once it has been built.
+     *
+     * @param holder The sub command that was built.
+     */
+    public void removePendingSubCommand(final @NotNull SubCommandHolder<S, ?> holder) {
+        pendingSubCommands.remove(holder);
+    }
+
+    /**
+     * Builds every sub command that was registered lazily and hasn't been built yet.
+     */
+    public void materializeSubCommands() {
+        final List<SubCommandHolder<S, ?>> pending;
+        synchronized (pendingSubCommands) {
+            pending = new ArrayList<>(pendingSubCommands);
+        }
+
+        // Each holder removes itself once built.
+        pending.forEach(SubCommandHolder::get);
+    }
 }
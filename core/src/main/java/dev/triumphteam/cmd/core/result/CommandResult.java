@@ -0,0 +1,174 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The outcome of executing a command.
+ * Results carry no typed input, so each command creates its failures once and returns the same instances on every execution.
+ * The typed arguments are handed to the {@link ResultHandler} alongside the result instead.
+ */
+public class CommandResult {
+
+    private static final CommandResult SUCCESS = new CommandResult(ResultType.SUCCESS, "", "");
+    private static final CommandResult INVALID_SENDER = new CommandResult(ResultType.INVALID_SENDER, "", "");
+    private static final CommandResult UNKNOWN_COMMAND = new CommandResult(ResultType.UNKNOWN_COMMAND, "", "");
+
+    private final ResultType type;
+    private final String commandName;
+    private final String subCommandName;
+
+    protected CommandResult(
+            final @NotNull ResultType type,
+            final @NotNull String commandName,
+            final @NotNull String subCommandName
+    ) {
+        this.type = type;
+        this.commandName = commandName;
+        this.subCommandName = subCommandName;
+    }
+
+    /**
+     * The shared result for a command that was handed to its execution provider.
+     *
+     * @return The success result.
+     */
+    public static @NotNull CommandResult success() {
+        return SUCCESS;
+    }
+
+    /**
+     * The shared result for a sender that was rejected by the sender validator, which already notifies the sender.
+     *
+     * @return The invalid sender result.
+     */
+    public static @NotNull CommandResult invalidSender() {
+        return INVALID_SENDER;
+    }
+
+    /**
+     * The shared result for a command that doesn't exist, the command name is the first argument handed to the handler.
+     *
+     * @return The unknown command result.
+     */
+    public static @NotNull CommandResult unknownCommand() {
+        return UNKNOWN_COMMAND;
+    }
+
+    /**
+     * Creates the result for an unknown sub command, the typed name is the first argument.
+     *
+     * @param commandName The name of the command.
+     * @return A new unknown command result.
+     */
+    @Contract("_ -> new")
+    public static @NotNull CommandResult unknownCommand(final @NotNull String commandName) {
+        return new CommandResult(ResultType.UNKNOWN_COMMAND, commandName, "");
+    }
+
+    /**
+     * Creates the result for a sub command that is turned off where it was used, for example in a guild that disabled it.
+     *
+     * @param commandName    The name of the command.
+     * @param subCommandName The name of the sub command.
+     * @return A new disabled result.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull CommandResult disabled(final @NotNull String commandName, final @NotNull String subCommandName) {
+        return new CommandResult(ResultType.DISABLED, commandName, subCommandName);
+    }
+
+    /**
+     * Creates the result for a sender that isn't allowed to use the sub command.
+     *
+     * @param commandName    The name of the command.
+     * @param subCommandName The name of the sub command.
+     * @return A new no permission result.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull CommandResult noPermission(final @NotNull String commandName, final @NotNull String subCommandName) {
+        return new CommandResult(ResultType.NO_PERMISSION, commandName, subCommandName);
+    }
+
+    /**
+     * Creates the result for a sub command that was missing required arguments.
+     *
+     * @param commandName    The name of the command.
+     * @param subCommandName The name of the sub command.
+     * @return A new not enough arguments result.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull CommandResult notEnoughArguments(final @NotNull String commandName, final @NotNull String subCommandName) {
+        return new CommandResult(ResultType.NOT_ENOUGH_ARGUMENTS, commandName, subCommandName);
+    }
+
+    /**
+     * Creates the result for a sub command that was typed with more arguments than it takes.
+     *
+     * @param commandName    The name of the command.
+     * @param subCommandName The name of the sub command.
+     * @return A new too many arguments result.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull CommandResult tooManyArguments(final @NotNull String commandName, final @NotNull String subCommandName) {
+        return new CommandResult(ResultType.TOO_MANY_ARGUMENTS, commandName, subCommandName);
+    }
+
+    public @NotNull ResultType getType() {
+        return type;
+    }
+
+    public boolean isSuccess() {
+        return type == ResultType.SUCCESS;
+    }
+
+    /**
+     * Gets the name of the command, empty for the shared results.
+     *
+     * @return The command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the name of the sub command, empty for the shared and unknown command results.
+     *
+     * @return The sub command name.
+     */
+    public @NotNull String getSubCommandName() {
+        return subCommandName;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CommandResult{" +
+                "type=" + type +
+                ", commandName='" + commandName + '\'' +
+                ", subCommandName='" + subCommandName + '\'' +
+                '}';
+    }
+}
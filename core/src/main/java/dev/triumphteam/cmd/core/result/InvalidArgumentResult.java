@@ -0,0 +1,94 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result for an argument that couldn't be resolved, one is created per argument of a sub command.
+ */
+public final class InvalidArgumentResult extends CommandResult {
+
+    private final int position;
+    private final String argumentName;
+    private final Class<?> argumentType;
+    private final boolean limitless;
+
+    public InvalidArgumentResult(
+            final @NotNull String commandName,
+            final @NotNull String subCommandName,
+            final int position,
+            final @NotNull String argumentName,
+            final @NotNull Class<?> argumentType,
+            final boolean limitless
+    ) {
+        super(ResultType.INVALID_ARGUMENT, commandName, subCommandName);
+        this.position = position;
+        this.argumentName = argumentName;
+        this.argumentType = argumentType;
+        this.limitless = limitless;
+    }
+
+    /**
+     * Gets the position of the argument in the sub command's arguments.
+     *
+     * @return The argument position.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public @NotNull String getArgumentName() {
+        return argumentName;
+    }
+
+    public @NotNull Class<?> getArgumentType() {
+        return argumentType;
+    }
+
+    /**
+     * Gets what was typed for the argument, a limitless argument takes everything from its position onwards.
+     *
+     * @param args The arguments passed to the sub command.
+     * @return The typed value.
+     */
+    public @NotNull String getTyped(final @NotNull List<@NotNull String> args) {
+        if (!limitless) return position < args.size() ? args.get(position) : "";
+        return String.join(" ", position > args.size() ? Collections.emptyList() : args.subList(position, args.size()));
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "InvalidArgumentResult{" +
+                "commandName='" + getCommandName() + '\'' +
+                ", subCommandName='" + getSubCommandName() + '\'' +
+                ", position=" + position +
+                ", argumentName='" + argumentName + '\'' +
+                ", argumentType=" + argumentType +
+                '}';
+    }
+}
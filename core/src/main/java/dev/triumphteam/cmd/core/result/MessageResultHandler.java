@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.result;
+
+import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Default result handler, sends the registered message for each failure.
+ *
+ * @param <S> The sender type.
+ */
+public final class MessageResultHandler<S> implements ResultHandler<S> {
+
+    private final MessageRegistry<S> messageRegistry;
+
+    public MessageResultHandler(final @NotNull MessageRegistry<S> messageRegistry) {
+        this.messageRegistry = messageRegistry;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handle(final @NotNull S sender, final @NotNull List<@NotNull String> args, final @NotNull CommandResult result) {
+        final String command = result.getCommandName();
+        final String subCommand = result.getSubCommandName();
+
+        switch (result.getType()) {
+            case UNKNOWN_COMMAND:
+                // The shared result has no command name, in that case the typed command is what's unknown
+                if (command.isEmpty()) {
+                    final String typedCommand = args.isEmpty() ? "" : args.get(0);
+                    messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, sender, new DefaultMessageContext(typedCommand, ""));
+                    break;
+                }
+
+                final String typed = args.isEmpty() ? "" : args.get(0).toLowerCase();
+                messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, sender, new DefaultMessageContext(command, typed));
+                break;
+
+            case REQUIREMENT_FAILED:
+                ((RequirementResult<S>) result).getRequirement().sendMessage(messageRegistry, sender, command, subCommand);
+                break;
+
+            case DISABLED:
+                messageRegistry.sendMessage(MessageKey.COMMAND_DISABLED, sender, new DefaultMessageContext(command, subCommand));
+                break;
+
+            case NO_PERMISSION:
+                messageRegistry.sendMessage(MessageKey.NO_PERMISSION, sender, new DefaultMessageContext(command, subCommand));
+                break;
+
+            case NOT_ENOUGH_ARGUMENTS:
+                messageRegistry.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new DefaultMessageContext(command, subCommand));
+                break;
+
+            case TOO_MANY_ARGUMENTS:
+                messageRegistry.sendMessage(MessageKey.TOO_MANY_ARGUMENTS, sender, new DefaultMessageContext(command, subCommand));
+                break;
+
+            case INVALID_ARGUMENT:
+                final InvalidArgumentResult invalid = (InvalidArgumentResult) result;
+                messageRegistry.sendMessage(
+                        MessageKey.INVALID_ARGUMENT,
+                        sender,
+                        new InvalidArgumentContext(command, subCommand, invalid.getTyped(args), invalid.getArgumentName(), invalid.getArgumentType())
+                );
+                break;
+
+            default:
+                // Success needs no message and the sender validator already notifies invalid senders
+                break;
+        }
+    }
+}
@@ -43,4 +43,20 @@ public interface SenderValidator<S> {
             final @NotNull SubCommand<S> subCommand,
             final @NotNull S sender
     );
+
+    /**
+     * Selects the check used for the given sub command, called once when the sub command is built.
+     * Defaults to calling {@link #validate} on every execution, validators that only depend on the
+     * sender type can return a cheaper check instead.
+     *
+     * @param messageRegistry The message registry to send failure messages with.
+     * @param subCommand      The sub command, its name and sender type are already available.
+     * @return The check to run on every execution.
+     */
+    default @NotNull SenderCheck<S> prepare(
+            final @NotNull MessageRegistry<S> messageRegistry,
+            final @NotNull SubCommand<S> subCommand
+    ) {
+        return sender -> validate(messageRegistry, subCommand, sender);
+    }
 }
@@ -72,7 +72,10 @@ public final class EnumUtils {
             result.put(name, new WeakReference<Enum<?>>(enumInstance));
         }
 
-        ENUM_CONSTANT_CACHE.put(enumClass, result);
+        // Sub commands may be processed in parallel, so the cache is only ever touched while holding its lock.
+        synchronized (ENUM_CONSTANT_CACHE) {
+            ENUM_CONSTANT_CACHE.put(enumClass, result);
+        }
         return result;
     }
 }
@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * Concurrent map keyed by primitive longs, for per guild or per user data looked up on every command.
+ * Reads probe an open addressing table without locking, boxing or allocating.
+ * Writes are serialized, removed keys leave a tombstone that's cleared when the table is rebuilt.
+ *
+ * @param <V> The value type.
+ */
+public final class LongObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile AtomicReferenceArray<Entry<V>> table = new AtomicReferenceArray<>(MIN_CAPACITY);
+
+    private volatile int size = 0;
+    // Live entries and tombstones, only touched while holding the lock
+    private int used = 0;
+
+    public @Nullable V get(final long key) {
+        final AtomicReferenceArray<Entry<V>> table = this.table;
+        final int mask = table.length() - 1;
+
+        int index = mix(key) & mask;
+        Entry<V> entry;
+        while ((entry = table.get(index)) != null) {
+            if (entry.key == key) return entry.value;
+            index = (index + 1) & mask;
+        }
+
+        return null;
+    }
+
+    public boolean containsKey(final long key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The previous value, or null if there was none.
+     */
+    public synchronized @Nullable V put(final long key, final @NotNull V value) {
+        return store(key, value);
+    }
+
+    public synchronized @Nullable V putIfAbsent(final long key, final @NotNull V value) {
+        final V current = get(key);
+        if (current != null) return current;
+        store(key, value);
+        return null;
+    }
+
+    /**
+     * Gets the value of the key, creating and storing it first if there is none.
+     *
+     * @param key             The key.
+     * @param mappingFunction Creates the value if needed.
+     * @return The current or created value.
+     */
+    public synchronized @NotNull V computeIfAbsent(final long key, final @NotNull LongFunction<? extends @NotNull V> mappingFunction) {
+        final V current = get(key);
+        if (current != null) return current;
+
+        final V value = mappingFunction.apply(key);
+        store(key, value);
+        return value;
+    }
+
+    public synchronized @Nullable V remove(final long key) {
+        return store(key, null);
+    }
+
+    /**
+     * Goes through every entry of the table as it is when called.
+     *
+     * @param consumer The consumer for each key and value.
+     */
+    public void forEach(final @NotNull EntryConsumer<? super V> consumer) {
+        final AtomicReferenceArray<Entry<V>> table = this.table;
+        for (int i = 0; i < table.length(); i++) {
+            final Entry<V> entry = table.get(i);
+            if (entry != null && entry.value != null) consumer.accept(entry.key, entry.value);
+        }
+    }
+
+    private @Nullable V store(final long key, final @Nullable V value) {
+        final AtomicReferenceArray<Entry<V>> table = this.table;
+        final int mask = table.length() - 1;
+
+        int index = mix(key) & mask;
+        Entry<V> entry;
+        while ((entry = table.get(index)) != null) {
+            if (entry.key == key) {
+                final V previous = entry.value;
+                if (previous == null && value == null) return null;
+
+                table.set(index, new Entry<>(key, value));
+                if (previous == null) size++;
+                if (value == null) size--;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // Removing a key that isn't there doesn't need a tombstone
+        if (value == null) return null;
+
+        table.set(index, new Entry<>(key, value));
+        size++;
+        used++;
+
+        // Keeps at least a quarter of the slots free so probes stay short
+        if (used * 4 >= table.length() * 3) rebuild();
+        return null;
+    }
+
+    private void rebuild() {
+        final AtomicReferenceArray<Entry<V>> table = this.table;
+
+        int capacity = MIN_CAPACITY;
+        while (capacity <= size * 2) capacity <<= 1;
+
+        final AtomicReferenceArray<Entry<V>> rebuilt = new AtomicReferenceArray<>(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < table.length(); i++) {
+            final Entry<V> entry = table.get(i);
+            if (entry == null || entry.value == null) continue;
+
+            int index = mix(entry.key) & mask;
+            while (rebuilt.get(index) != null) index = (index + 1) & mask;
+            rebuilt.set(index, entry);
+        }
+
+        used = size;
+        this.table = rebuilt;
+    }
+
+    /**
+     * Spreads the bits of the key, snowflake ids share most of their low bits otherwise.
+     *
+     * @param key The key.
+     * @return The mixed hash.
+     */
+    private static int mix(final long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "LongObjectMap{" +
+                "size=" + size +
+                ", capacity=" + table.length() +
+                '}';
+    }
+
+    /**
+     * Consumer for a primitive long key and its value.
+     *
+     * @param <V> The value type.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(final long key, final @NotNull V value);
+    }
+
+    private static final class Entry<V> {
+
+        private final long key;
+        // Null for a removed key
+        private final V value;
+
+        private Entry(final long key, final @Nullable V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Copy on write map for data that's read on every command but only written when registering.
+ * Reads go through the currently published immutable snapshot and never lock.
+ * Writes are serialized, copy the snapshot and publish the new one, so every write is seen as a single atomic step.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public final class SnapshotMap<K, V> {
+
+    private volatile Map<K, V> snapshot = Collections.emptyMap();
+
+    public @Nullable V get(final @NotNull Object key) {
+        return snapshot.get(key);
+    }
+
+    public boolean containsKey(final @NotNull Object key) {
+        return snapshot.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Gets the current snapshot, later writes won't be reflected in it.
+     *
+     * @return An immutable view of the map.
+     */
+    public @NotNull Map<K, V> snapshot() {
+        return snapshot;
+    }
+
+    public synchronized @Nullable V put(final @NotNull K key, final @NotNull V value) {
+        final Map<K, V> copy = new HashMap<>(snapshot);
+        final V previous = copy.put(key, value);
+        publish(copy);
+        return previous;
+    }
+
+    public synchronized @Nullable V putIfAbsent(final @NotNull K key, final @NotNull V value) {
+        final V current = snapshot.get(key);
+        if (current != null) return current;
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * Gets the value for the key, or creates and publishes it if missing.
+     * The function runs at most once per missing key, while holding the write lock.
+     *
+     * @param key      The key.
+     * @param function The function to create the value.
+     * @return The current or newly created value.
+     */
+    public synchronized @NotNull V computeIfAbsent(final @NotNull K key, final @NotNull Function<? super K, ? extends V> function) {
+        final V current = snapshot.get(key);
+        if (current != null) return current;
+
+        final V value = function.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    public synchronized @Nullable V remove(final @NotNull Object key) {
+        if (!snapshot.containsKey(key)) return null;
+        final Map<K, V> copy = new HashMap<>(snapshot);
+        final V previous = copy.remove(key);
+        publish(copy);
+        return previous;
+    }
+
+    private void publish(final @NotNull Map<K, V> copy) {
+        // Per guild maps mostly hold a single command, which doesn't need a whole hash table
+        if (copy.isEmpty()) {
+            snapshot = Collections.emptyMap();
+        } else if (copy.size() == 1) {
+            final Map.Entry<K, V> entry = copy.entrySet().iterator().next();
+            snapshot = Collections.singletonMap(entry.getKey(), entry.getValue());
+        } else {
+            snapshot = Collections.unmodifiableMap(copy);
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SnapshotMap{" +
+                "snapshot=" + snapshot +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base for all the command flight recorder events.
+ * The duration of the event is the time between {@link #begin()} and {@link #commit()}.
+ */
+@Category({"Triumph", "Commands"})
+abstract class AbstractCommandEvent extends Event implements CommandEvent {
+
+    @Label("Command")
+    String command;
+
+    @Label("Sub Command")
+    String subCommand;
+
+    @Label("Sender Type")
+    Class<?> senderType;
+
+    /**
+     * Sets the event fields and starts the timing.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param senderType The sender type of the sub command.
+     * @return This event.
+     */
+    @NotNull CommandEvent start(
+            final @NotNull String command,
+            final @NotNull String subCommand,
+            final @NotNull Class<?> senderType
+    ) {
+        this.command = command;
+        this.subCommand = subCommand;
+        this.senderType = senderType;
+        begin();
+        return this;
+    }
+}
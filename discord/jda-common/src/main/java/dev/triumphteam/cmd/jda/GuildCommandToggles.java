@@ -0,0 +1,176 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.jda;
+
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Commands and sub commands turned off per guild.
+ * Every command name gets an ordinal when it's registered, each guild keeps a bitset of its disabled ordinals.
+ * Names that were never registered have no ordinal and are ignored by every update.
+ * Checking a command is a single bit test, and each update publishes a new bitset so it's seen as one atomic change.
+ */
+public final class GuildCommandToggles {
+
+    private static final long[] NONE = new long[0];
+
+    private final SnapshotMap<String, Integer> ordinals = new SnapshotMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final LongObjectMap<long[]> disabled = new LongObjectMap<>();
+
+    /**
+     * Gets the ordinal of a command, assigning one if it doesn't have it yet.
+     *
+     * @param name The command name, or the command and sub command names separated by a space.
+     * @return The ordinal.
+     */
+    public int ordinal(final @NotNull String name) {
+        final Integer ordinal = ordinals.get(name);
+        if (ordinal != null) return ordinal;
+        return ordinals.computeIfAbsent(name, ignored -> nextOrdinal.getAndIncrement());
+    }
+
+    /**
+     * Gets the ordinal of a sub command, assigning one if it doesn't have it yet.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @return The ordinal.
+     */
+    public int ordinal(final @NotNull String command, final @NotNull String subCommand) {
+        return ordinal(command + ' ' + subCommand);
+    }
+
+    /**
+     * Checks if the command is disabled in the guild.
+     *
+     * @param guildId The guild id.
+     * @param ordinal The ordinal of the command.
+     * @return Whether the command is disabled.
+     */
+    public boolean isDisabled(final long guildId, final int ordinal) {
+        final long[] bits = disabled.get(guildId);
+        if (bits == null) return false;
+
+        final int word = ordinal >>> 6;
+        return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Checks if the command is disabled in the guild.
+     *
+     * @param guildId The guild id.
+     * @param name    The command name, or the command and sub command names separated by a space.
+     * @return Whether the command is disabled.
+     */
+    public boolean isDisabled(final long guildId, final @NotNull String name) {
+        final Integer ordinal = ordinals.get(name);
+        return ordinal != null && isDisabled(guildId, ordinal);
+    }
+
+    /**
+     * Disables the given commands in the guild, in a single update.
+     * Names that aren't registered are ignored.
+     *
+     * @param guildId The guild id.
+     * @param names   The command names, or command and sub command names separated by a space.
+     */
+    public synchronized void disable(final long guildId, final @NotNull Collection<@NotNull String> names) {
+        final long[] current = disabled.get(guildId);
+        publish(guildId, set(current == null ? NONE : current.clone(), names));
+    }
+
+    /**
+     * Enables the given commands in the guild again, in a single update.
+     * Names that aren't registered are ignored.
+     *
+     * @param guildId The guild id.
+     * @param names   The command names, or command and sub command names separated by a space.
+     */
+    public synchronized void enable(final long guildId, final @NotNull Collection<@NotNull String> names) {
+        final long[] current = disabled.get(guildId);
+        if (current == null) return;
+
+        final long[] bits = current.clone();
+        for (final String name : names) {
+            final Integer ordinal = ordinals.get(name);
+            if (ordinal == null) continue;
+
+            final int word = ordinal >>> 6;
+            if (word < bits.length) bits[word] &= ~(1L << ordinal);
+        }
+
+        publish(guildId, bits);
+    }
+
+    /**
+     * Replaces every disabled command of the guild, in a single update.
+     * Names that aren't registered are ignored.
+     *
+     * @param guildId The guild id.
+     * @param names   The command names, or command and sub command names separated by a space.
+     */
+    public synchronized void setDisabled(final long guildId, final @NotNull Collection<@NotNull String> names) {
+        publish(guildId, set(NONE, names));
+    }
+
+    private long @NotNull [] set(long @NotNull [] bits, final @NotNull Collection<@NotNull String> names) {
+        for (final String name : names) {
+            final Integer ordinal = ordinals.get(name);
+            if (ordinal == null) continue;
+
+            final int word = ordinal >>> 6;
+            if (word >= bits.length) bits = Arrays.copyOf(bits, word + 1);
+            bits[word] |= 1L << ordinal;
+        }
+
+        return bits;
+    }
+
+    private void publish(final long guildId, final long @NotNull [] bits) {
+        for (final long word : bits) {
+            if (word != 0) {
+                disabled.put(guildId, bits);
+                return;
+            }
+        }
+
+        // Nothing disabled anymore, so the guild doesn't need a bitset
+        disabled.remove(guildId);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "GuildCommandToggles{" +
+                "ordinals=" + ordinals.size() +
+                ", guilds=" + disabled.size() +
+                '}';
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.jda;
+
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.requests.GatewayIntent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of the sorted role ids of each member, so dispatch doesn't go through {@link Member#getRoles()} every time.
+ * Entries are dropped when JDA reports the member's roles changed, which needs the {@code GUILD_MEMBERS} intent,
+ * without it nothing is cached and the roles are always read from the member.
+ * Entries also expire after a while, and the whole cache is dropped once it holds too many members.
+ */
+public final class MemberRoleCache extends ListenerAdapter {
+
+    private static final long EXPIRE_AFTER = TimeUnit.MINUTES.toNanos(10);
+    private static final int MAX_MEMBERS = 100_000;
+
+    private final boolean enabled;
+
+    private volatile LongObjectMap<LongObjectMap<Entry>> guilds = new LongObjectMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public MemberRoleCache(final @NotNull JDA jda) {
+        this.enabled = jda.getGatewayIntents().contains(GatewayIntent.GUILD_MEMBERS);
+    }
+
+    /**
+     * Gets the sorted role ids of the member, reading them from the member only when they're not cached.
+     *
+     * @param member The {@link Member}.
+     * @return The sorted role ids.
+     */
+    public long @NotNull [] getRoles(final @NotNull Member member) {
+        // Role changes are never reported without the intent, so a cached entry could be outdated
+        if (!enabled) return readRoles(member);
+
+        final LongObjectMap<LongObjectMap<Entry>> guilds = this.guilds;
+        final LongObjectMap<Entry> members = guilds.computeIfAbsent(member.getGuild().getIdLong(), ignored -> new LongObjectMap<>());
+
+        final long userId = member.getIdLong();
+        final long now = System.nanoTime();
+        final Entry cached = members.get(userId);
+        if (cached != null && now - cached.expiresAt < 0) return cached.roles;
+
+        final long[] roles = readRoles(member);
+        if (members.put(userId, new Entry(roles, now + EXPIRE_AFTER)) == null && size.incrementAndGet() > MAX_MEMBERS) {
+            clear();
+        }
+        return roles;
+    }
+
+    /**
+     * Drops the cached roles of a member.
+     *
+     * @param guildId The guild id.
+     * @param userId  The user id.
+     */
+    public void invalidate(final long guildId, final long userId) {
+        final LongObjectMap<Entry> members = guilds.get(guildId);
+        if (members != null && members.remove(userId) != null) size.decrementAndGet();
+    }
+
+    /**
+     * Drops the cached roles of every member of the guild.
+     *
+     * @param guildId The guild id.
+     */
+    public void invalidate(final long guildId) {
+        final LongObjectMap<Entry> members = guilds.remove(guildId);
+        if (members != null) size.addAndGet(-members.size());
+    }
+
+    /**
+     * Drops every cached member.
+     */
+    public void clear() {
+        guilds = new LongObjectMap<>();
+        size.set(0);
+    }
+
+    @Override
+    public void onGuildMemberRoleAdd(final @NotNull GuildMemberRoleAddEvent event) {
+        invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberRoleRemove(final @NotNull GuildMemberRoleRemoveEvent event) {
+        invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberRemove(final @NotNull GuildMemberRemoveEvent event) {
+        invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+    }
+
+    @Override
+    public void onRoleDelete(final @NotNull RoleDeleteEvent event) {
+        invalidate(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onGuildLeave(final @NotNull GuildLeaveEvent event) {
+        invalidate(event.getGuild().getIdLong());
+    }
+
+    private static long @NotNull [] readRoles(final @NotNull Member member) {
+        final List<Role> roles = member.getRoles();
+        final long[] ids = new long[roles.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = roles.get(i).getIdLong();
+        }
+
+        return RoleGate.sorted(ids);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "MemberRoleCache{" +
+                "enabled=" + enabled +
+                ", guilds=" + guilds.size() +
+                ", members=" + size.get() +
+                '}';
+    }
+
+    private static final class Entry {
+
+        private final long[] roles;
+        private final long expiresAt;
+
+        private Entry(final long @NotNull [] roles, final long expiresAt) {
+            this.roles = roles;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.jda;
+
+import dev.triumphteam.cmd.jda.annotation.Privileges;
+import dev.triumphteam.cmd.jda.annotation.Roles;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The role restrictions of a command, resolved from its {@link Roles} and {@link Privileges} annotations.
+ * Role ids are kept in sorted arrays, so checking a member is a merge of two sorted arrays.
+ */
+public final class RoleGate {
+
+    private static final long[] NO_ROLES = new long[0];
+    private static final RoleGate OPEN = new RoleGate(NO_ROLES, NO_ROLES);
+
+    // Members need at least one of these, unless empty
+    private final long[] allowed;
+    // Members with any of these can't use the command
+    private final long[] denied;
+
+    private RoleGate(final long @NotNull [] allowed, final long @NotNull [] denied) {
+        this.allowed = allowed;
+        this.denied = denied;
+    }
+
+    /**
+     * Reads the role annotations from the command class.
+     * {@link Roles#disabled()} turns the roles into a deny list instead of an allow list.
+     *
+     * @param klass The command class.
+     * @return The {@link RoleGate}, or {@link #open()} if the class has no role annotations.
+     */
+    public static @NotNull RoleGate from(final @NotNull Class<?> klass) {
+        final Roles[] annotations;
+        final Privileges privileges = klass.getAnnotation(Privileges.class);
+        if (privileges != null) {
+            annotations = privileges.value();
+        } else {
+            final Roles roles = klass.getAnnotation(Roles.class);
+            if (roles == null) return OPEN;
+            annotations = new Roles[]{roles};
+        }
+
+        long[] allowed = NO_ROLES;
+        long[] denied = NO_ROLES;
+        for (final Roles roles : annotations) {
+            if (roles.disabled()) denied = concat(denied, roles.value());
+            else allowed = concat(allowed, roles.value());
+        }
+
+        return of(allowed, denied);
+    }
+
+    /**
+     * Creates a gate from role ids.
+     *
+     * @param allowed The roles of which a member needs at least one, or empty to allow everyone.
+     * @param denied  The roles that prevent a member from using the command.
+     * @return The {@link RoleGate}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull RoleGate of(final long @NotNull [] allowed, final long @NotNull [] denied) {
+        return new RoleGate(sorted(allowed), sorted(denied));
+    }
+
+    /**
+     * Gets the gate that lets every member through.
+     *
+     * @return The open {@link RoleGate}.
+     */
+    public static @NotNull RoleGate open() {
+        return OPEN;
+    }
+
+    /**
+     * Whether the gate lets everyone through, in which case the member roles don't need to be looked up.
+     *
+     * @return True if no roles are allowed or denied.
+     */
+    public boolean isOpen() {
+        return allowed.length == 0 && denied.length == 0;
+    }
+
+    /**
+     * Checks the roles of a member against the gate.
+     *
+     * @param memberRoles The sorted role ids of the member.
+     * @return Whether the member can use the command.
+     */
+    public boolean test(final long @NotNull [] memberRoles) {
+        if (intersects(denied, memberRoles)) return false;
+        return allowed.length == 0 || intersects(allowed, memberRoles);
+    }
+
+    /**
+     * Checks if two sorted arrays share any element.
+     *
+     * @param first  The first sorted array.
+     * @param second The second sorted array.
+     * @return Whether any element is in both.
+     */
+    static boolean intersects(final long @NotNull [] first, final long @NotNull [] second) {
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            final long a = first[i];
+            final long b = second[j];
+            if (a == b) return true;
+            if (a < b) i++;
+            else j++;
+        }
+
+        return false;
+    }
+
+    /**
+     * Sorts and removes duplicates from role ids, without changing the given array.
+     *
+     * @param roles The role ids.
+     * @return A new sorted array of distinct role ids.
+     */
+    static long @NotNull [] sorted(final long @NotNull [] roles) {
+        if (roles.length == 0) return NO_ROLES;
+
+        final long[] sorted = roles.clone();
+        Arrays.sort(sorted);
+
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) sorted[size++] = sorted[i];
+        }
+
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    private static long @NotNull [] concat(final long @NotNull [] first, final long @NotNull [] second) {
+        final long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "RoleGate{" +
+                "allowed=" + Arrays.toString(allowed) +
+                ", denied=" + Arrays.toString(denied) +
+                '}';
+    }
+}
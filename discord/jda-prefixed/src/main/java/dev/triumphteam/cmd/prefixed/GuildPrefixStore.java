@@ -0,0 +1,313 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.prefixed;
+
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append only log of the guild prefixes, written through a memory mapped file.
+ * Only one mapping of the log is alive at a time, the previous one is flushed and released before growing or compacting.
+ * Every change is a new record, once most records are outdated the log is rewritten with only the current prefixes.
+ * A record's type is written after the rest of it, followed by an end marker, so a record cut off by a crash is never read.
+ */
+final class GuildPrefixStore implements Closeable {
+
+    private static final byte END = 0;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private static final int INITIAL_SIZE = 64 * 1024;
+    private static final int MIN_COMPACT_RECORDS = 1024;
+
+    // Releases a mapping right away instead of whenever the buffer is collected, null if the JVM doesn't allow it.
+    private static final MethodHandle UNMAP = findUnmap();
+
+    private final Path file;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int records;
+
+    private GuildPrefixStore(final @NotNull Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens the log, creating it if needed, and loads the stored prefixes into the given map.
+     *
+     * @param file     The log file.
+     * @param prefixes The map to load the prefixes into.
+     * @return The opened store.
+     * @throws IOException If the file can't be opened or mapped.
+     */
+    static @NotNull GuildPrefixStore open(final @NotNull Path file, final @NotNull LongObjectMap<String> prefixes) throws IOException {
+        final GuildPrefixStore store = new GuildPrefixStore(file);
+        store.remap(INITIAL_SIZE, 0);
+        store.load(prefixes);
+        return store;
+    }
+
+    /**
+     * Appends a prefix change.
+     *
+     * @param guildId  The guild id.
+     * @param prefix   The new prefix of the guild.
+     * @param prefixes The current prefixes, used if the log needs compacting first.
+     * @throws IOException If the log can't be grown or compacted.
+     */
+    synchronized void put(final long guildId, final @NotNull String prefix, final @NotNull LongObjectMap<String> prefixes) throws IOException {
+        final byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) throw new IllegalArgumentException("Prefix is too long to be stored: " + prefix);
+
+        ensureMapped();
+        ensureCapacity(1 + Long.BYTES + Short.BYTES + bytes.length + 1, prefixes);
+        final int start = buffer.position();
+        buffer.position(start + 1);
+        buffer.putLong(guildId).putShort((short) bytes.length).put(bytes);
+        finishRecord(start, PUT);
+    }
+
+    /**
+     * Appends the removal of a prefix.
+     *
+     * @param guildId  The guild id.
+     * @param prefixes The current prefixes, used if the log needs compacting first.
+     * @throws IOException If the log can't be grown or compacted.
+     */
+    synchronized void remove(final long guildId, final @NotNull LongObjectMap<String> prefixes) throws IOException {
+        ensureMapped();
+        ensureCapacity(1 + Long.BYTES + 1, prefixes);
+        final int start = buffer.position();
+        buffer.position(start + 1);
+        buffer.putLong(guildId);
+        finishRecord(start, REMOVE);
+    }
+
+    /**
+     * Rewrites the log with only the current prefixes.
+     *
+     * @param prefixes The current prefixes.
+     * @throws IOException If the new log can't be written.
+     */
+    synchronized void compact(final @NotNull LongObjectMap<String> prefixes) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ByteBuffer header = ByteBuffer.allocate(1 + Long.BYTES + Short.BYTES);
+        prefixes.forEach((guildId, prefix) -> {
+            final byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+            header.clear();
+            header.put(PUT).putLong(guildId).putShort((short) prefixBytes.length);
+            bytes.write(header.array(), 0, header.capacity());
+            bytes.write(prefixBytes, 0, prefixBytes.length);
+        });
+        bytes.write(END);
+
+        final Path temporary = file.resolveSibling(file.getFileName() + ".compact");
+        Files.write(temporary, bytes.toByteArray());
+
+        ensureMapped();
+        final int position = buffer.position();
+        final int capacity = buffer.capacity();
+        // The old mapping has to be gone before the file is replaced, Windows refuses to replace a mapped file.
+        unmap();
+        try {
+            replace(temporary);
+        } catch (final IOException exception) {
+            // Keep appending to the old log, if even that fails the next write tries mapping it again.
+            try {
+                remap(capacity, position);
+            } catch (final IOException remapException) {
+                exception.addSuppressed(remapException);
+            }
+            throw exception;
+        }
+
+        records = prefixes.size();
+        remap(Math.max(INITIAL_SIZE, bytes.size() * 2), bytes.size() - 1);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null) unmap();
+    }
+
+    /**
+     * Maps the log with at least the given size, and only then releases the current mapping if there's one.
+     * If mapping fails the current mapping stays in use.
+     *
+     * @param size     The minimum size of the mapping.
+     * @param position The position to continue writing at.
+     * @throws IOException If the file can't be opened or mapped.
+     */
+    private void remap(final int size, final int position) throws IOException {
+        final FileChannel newChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedByteBuffer newBuffer;
+        try {
+            newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, newChannel.size()));
+        } catch (final IOException | RuntimeException exception) {
+            newChannel.close();
+            throw exception;
+        }
+
+        newBuffer.position(position);
+        if (buffer != null) unmap();
+        channel = newChannel;
+        buffer = newBuffer;
+    }
+
+    /**
+     * Maps the log again if a compaction released the mapping and couldn't map the file afterwards.
+     * The end of the log is found by reading it again, the same way as when it's opened.
+     *
+     * @throws IOException If the file still can't be mapped.
+     */
+    private void ensureMapped() throws IOException {
+        if (buffer != null) return;
+
+        remap(INITIAL_SIZE, 0);
+        records = 0;
+        load(new LongObjectMap<>());
+    }
+
+    private void replace(final @NotNull Path temporary) throws IOException {
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes and releases the current mapping, so there is never more than one mapping of the log alive for long.
+     *
+     * @throws IOException If the channel can't be closed.
+     */
+    private void unmap() throws IOException {
+        buffer.force();
+        channel.close();
+
+        if (UNMAP != null) {
+            try {
+                UNMAP.invoke(buffer);
+            } catch (final Throwable ignored) {
+                // Left to the garbage collector.
+            }
+        }
+
+        // Never touched again, accessing a released mapping crashes the JVM.
+        buffer = null;
+    }
+
+    private static @Nullable MethodHandle findUnmap() {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            // Java 9+
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return lookup.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException ignored) {
+            // Java 8 below.
+        }
+
+        try {
+            final Method cleaner = Class.forName("java.nio.DirectByteBuffer").getMethod("cleaner");
+            cleaner.setAccessible(true);
+            final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            clean.setAccessible(true);
+            return MethodHandles.filterReturnValue(lookup.unreflect(cleaner), lookup.unreflect(clean))
+                    .asType(MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (final ReflectiveOperationException | RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    private void load(final @NotNull LongObjectMap<String> prefixes) {
+        int end = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                final byte type = buffer.get();
+                if (type == PUT) {
+                    final long guildId = buffer.getLong();
+                    final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+                    buffer.get(bytes);
+                    prefixes.put(guildId, new String(bytes, StandardCharsets.UTF_8));
+                } else if (type == REMOVE) {
+                    prefixes.remove(buffer.getLong());
+                } else {
+                    break;
+                }
+
+                records++;
+                end = buffer.position();
+            }
+        } catch (final BufferUnderflowException ignored) {
+            // A record cut off at the end of the file, the next write replaces it.
+        }
+
+        buffer.position(end);
+    }
+
+    private void ensureCapacity(final int recordSize, final @NotNull LongObjectMap<String> prefixes) throws IOException {
+        if (records >= MIN_COMPACT_RECORDS && records > prefixes.size() * 2) compact(prefixes);
+        if (buffer.remaining() >= recordSize) return;
+
+        final int position = buffer.position();
+        final int capacity = buffer.capacity();
+        remap((int) Math.min(Integer.MAX_VALUE, Math.max((long) capacity * 2, (long) position + recordSize)), position);
+    }
+
+    /**
+     * Marks the end of the log after the record just written, then makes the record readable by setting its type.
+     *
+     * @param start The position of the record.
+     * @param type  The type of the record.
+     */
+    private void finishRecord(final int start, final byte type) {
+        records++;
+        if (buffer.hasRemaining()) buffer.put(buffer.position(), END);
+        buffer.put(start, type);
+    }
+}
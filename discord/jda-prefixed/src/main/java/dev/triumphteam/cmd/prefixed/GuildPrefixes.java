@@ -0,0 +1,106 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.prefixed;
+
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Custom prefixes set per guild, replacing the global prefix in that guild.
+ * Changes are written to the {@link GuildPrefixStore} when one is set, and are seen by the next message either way.
+ */
+final class GuildPrefixes {
+
+    private final LongObjectMap<String> prefixes = new LongObjectMap<>();
+    private GuildPrefixStore store = null;
+
+    /**
+     * Gets the custom prefix of the guild.
+     *
+     * @param guildId The guild id.
+     * @return The custom prefix, or null if the guild uses the global one.
+     */
+    @Nullable String get(final long guildId) {
+        return prefixes.get(guildId);
+    }
+
+    synchronized void set(final long guildId, final @NotNull String prefix) {
+        try {
+            if (store != null) store.put(guildId, prefix, prefixes);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not store the prefix of guild " + guildId, exception);
+        }
+
+        prefixes.put(guildId, prefix);
+    }
+
+    synchronized void remove(final long guildId) {
+        if (prefixes.get(guildId) == null) return;
+
+        try {
+            if (store != null) store.remove(guildId, prefixes);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not remove the prefix of guild " + guildId, exception);
+        }
+
+        prefixes.remove(guildId);
+    }
+
+    /**
+     * Switches to the given file, loading the prefixes stored in it on top of the current ones.
+     *
+     * @param file The log file, or null to stop persisting.
+     */
+    synchronized void setFile(final @Nullable Path file) {
+        try {
+            if (store != null) store.close();
+            store = null;
+            if (file == null) return;
+
+            store = GuildPrefixStore.open(file, prefixes);
+            // Writes the prefixes that were only in memory, and drops the outdated records
+            store.compact(prefixes);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not open the guild prefix file " + file, exception);
+        }
+    }
+
+    /**
+     * Rewrites the file with only the current prefixes.
+     */
+    synchronized void compact() {
+        if (store == null) return;
+
+        try {
+            store.compact(prefixes);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not compact the guild prefix file", exception);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.prefixed;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Trie of the registered prefixes, matched against the start of a message in a single pass without regex.
+ * Reads go through the currently published root and never lock, adding a prefix copies only the nodes on its path.
+ */
+final class PrefixTrie {
+
+    private volatile Node root = Node.EMPTY;
+
+    /**
+     * Adds a prefix to the trie.
+     *
+     * @param prefix The prefix, must not be empty.
+     */
+    synchronized void add(final @NotNull String prefix) {
+        root = root.with(prefix, 0);
+    }
+
+    /**
+     * Finds the longest prefix at the start of the content that is followed by a word character.
+     * Stops on the first character that isn't part of a prefix, usually the very first one, so it's cheap to run on every message.
+     * Prefixes never span past the first space, as it separates the command from its arguments.
+     *
+     * @param content The raw message content.
+     * @return The registered prefix, or null if none matches.
+     */
+    @Nullable String match(final @NotNull String content) {
+        final int length = content.length();
+
+        Node node = root;
+        String found = null;
+        for (int i = 0; i < length; i++) {
+            final char character = content.charAt(i);
+            if (character == ' ') break;
+
+            node = node.child(character);
+            if (node == null) break;
+
+            final String prefix = node.prefix;
+            if (prefix != null && i + 1 < length && isWordCharacter(content.charAt(i + 1))) found = prefix;
+        }
+
+        return found;
+    }
+
+    /**
+     * Checks a single prefix the same way {@link #match(String)} does.
+     *
+     * @param content The raw message content.
+     * @param prefix  The prefix.
+     * @return Whether the content starts with the prefix followed by a word character.
+     */
+    static boolean startsWithPrefix(final @NotNull String content, final @NotNull String prefix) {
+        final int length = prefix.length();
+        return content.length() > length && content.startsWith(prefix) && isWordCharacter(content.charAt(length));
+    }
+
+    /**
+     * Same characters as regex's `\w`, the command name needs to start with one of them.
+     *
+     * @param character The character after the prefix.
+     * @return Whether it's a word character.
+     */
+    private static boolean isWordCharacter(final char character) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9')
+                || character == '_';
+    }
+
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+        // Sorted, so children are found with a binary search
+        private final char[] keys;
+        private final Node[] children;
+        // Set when a registered prefix ends on this node
+        private final String prefix;
+
+        private Node(final char @NotNull [] keys, final @NotNull Node @NotNull [] children, final @Nullable String prefix) {
+            this.keys = keys;
+            this.children = children;
+            this.prefix = prefix;
+        }
+
+        private @Nullable Node child(final char character) {
+            final int index = Arrays.binarySearch(keys, character);
+            return index < 0 ? null : children[index];
+        }
+
+        private @NotNull Node with(final @NotNull String prefix, final int depth) {
+            if (depth == prefix.length()) {
+                return this.prefix != null ? this : new Node(keys, children, prefix);
+            }
+
+            final char character = prefix.charAt(depth);
+            final int index = Arrays.binarySearch(keys, character);
+            if (index >= 0) {
+                final Node[] newChildren = children.clone();
+                newChildren[index] = children[index].with(prefix, depth + 1);
+                return new Node(keys, newChildren, this.prefix);
+            }
+
+            final int insertAt = -index - 1;
+            final char[] newKeys = new char[keys.length + 1];
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = character;
+            newChildren[insertAt] = EMPTY.with(prefix, depth + 1);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            return new Node(newKeys, newChildren, this.prefix);
+        }
+    }
+}
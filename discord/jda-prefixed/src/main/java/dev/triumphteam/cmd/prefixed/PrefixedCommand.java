@@ -24,19 +24,22 @@
 package dev.triumphteam.cmd.prefixed;
 
 import dev.triumphteam.cmd.core.Command;
-import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import dev.triumphteam.cmd.jda.GuildCommandToggles;
+import dev.triumphteam.cmd.jda.MemberRoleCache;
+import dev.triumphteam.cmd.jda.RoleGate;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
+import net.dv8tion.jda.api.entities.Member;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Main implementation of the command for prefixed JDA.
@@ -45,11 +48,17 @@ import java.util.Map;
  */
 final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
 
-    private final Map<String, PrefixedSubCommand<S>> subCommands = new HashMap<>();
+    private final SnapshotMap<String, SubCommandHolder<S, PrefixedSubCommand<S>>> subCommands = new SnapshotMap<>();
 
     private final String name;
     private final List<String> alias;
 
+    private final GuildCommandToggles toggles;
+    private final int ordinal;
+
+    private final MemberRoleCache memberRoles;
+    private final RoleGate roleGate;
+
     private final RegistryContainer<S> registryContainer;
 
     private final SenderMapper<PrefixedSender, S> senderMapper;
@@ -68,29 +77,44 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
         this.registryContainer = processor.getRegistryContainer();
         this.senderMapper = processor.getSenderMapper();
         this.senderValidator = processor.getSenderValidator();
+        this.toggles = processor.getToggles();
+        this.ordinal = toggles.ordinal(name);
+        this.memberRoles = processor.getMemberRoles();
+        this.roleGate = processor.getRoleGate();
 
         this.syncExecutionProvider = syncExecutionProvider;
         this.asyncExecutionProvider = asyncExecutionProvider;
     }
 
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull PrefixedSubCommand<S> subCommand) {
+    public void addSubCommand(final @NotNull String name, final @NotNull SubCommandHolder<S, PrefixedSubCommand<S>> subCommand) {
         this.subCommands.putIfAbsent(name, subCommand);
     }
 
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull PrefixedSubCommand<S> subCommand) {
+    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SubCommandHolder<S, PrefixedSubCommand<S>> subCommand) {
         this.subCommands.putIfAbsent(alias, subCommand);
     }
 
     /**
      * Executes the current command for the given sender.
+     * Commands disabled in the guild, or that the member's roles don't allow, are ignored.
      *
-     * @param sender The sender.
-     * @param args   The command arguments.
+     * @param guildId The id of the guild the command was sent in, or 0 outside guilds.
+     * @param member  The member that sent the command, or null outside guilds.
+     * @param sender  The sender.
+     * @param args    The command arguments.
      */
-    public void execute(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
-        SubCommand<S> subCommand = getDefaultSubCommand();
+    public void execute(
+            final long guildId,
+            final @Nullable Member member,
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> args
+    ) {
+        if (toggles.isDisabled(guildId, ordinal)) return;
+        if (!roleGate.isOpen() && (member == null || !roleGate.test(memberRoles.getRoles(member)))) return;
+
+        PrefixedSubCommand<S> subCommand = getDefaultSubCommand();
 
         String subCommandName = "";
         if (args.size() > 0) subCommandName = args.get(0).toLowerCase();
@@ -104,6 +128,8 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
             return;
         }
 
+        if (toggles.isDisabled(guildId, subCommand.getOrdinal())) return;
+
         // TODO: 11/28/2021 Alias check
         final List<String> arguments = !subCommand.isDefault() ? args.subList(1, args.size()) : args;
         subCommand.execute(sender, arguments);
@@ -114,8 +140,8 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
      *
      * @return The default sub command.
      */
-    private @Nullable SubCommand<S> getDefaultSubCommand() {
-        return subCommands.get(Default.DEFAULT_CMD_NAME);
+    private @Nullable PrefixedSubCommand<S> getDefaultSubCommand() {
+        return getSubCommand(Default.DEFAULT_CMD_NAME);
     }
 
     /**
@@ -124,8 +150,9 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
      * @param key The sub command name.
      * @return A sub command or null.
      */
-    private @Nullable SubCommand<S> getSubCommand(final @NotNull String key) {
-        return subCommands.get(key);
+    private @Nullable PrefixedSubCommand<S> getSubCommand(final @NotNull String key) {
+        final SubCommandHolder<S, PrefixedSubCommand<S>> holder = subCommands.get(key);
+        return holder == null ? null : holder.get();
     }
 
     /**
@@ -23,15 +23,17 @@
  */
 package dev.triumphteam.cmd.prefixed;
 
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import net.dv8tion.jda.api.entities.Member;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Main executor for the commands.
@@ -40,7 +42,7 @@ import java.util.Map;
  */
 final class PrefixedCommandExecutor<S> {
 
-    private final Map<String, PrefixedCommand<S>> commands = new HashMap<>();
+    private final SnapshotMap<String, PrefixedCommand<S>> commands = new SnapshotMap<>();
 
     private final MessageRegistry<S> messageRegistry;
 
@@ -60,9 +62,13 @@ final class PrefixedCommandExecutor<S> {
     /**
      * Registers a command to the current executor.
      *
-     * @param processor The processor with all the command data.
+     * @param processor   The processor with all the command data.
+     * @param subCommands The sub commands already created by the processor.
      */
-    public void register(final @NotNull PrefixedCommandProcessor<S> processor) {
+    public void register(
+            final @NotNull PrefixedCommandProcessor<S> processor,
+            final @NotNull List<@NotNull SubCommandHolder<S, PrefixedSubCommand<S>>> subCommands
+    ) {
         final String name = processor.getName();
 
         final PrefixedCommand<S> command = commands.computeIfAbsent(name, p -> new PrefixedCommand<>(processor, syncExecutionProvider, asyncExecutionProvider));
@@ -71,18 +77,22 @@ final class PrefixedCommandExecutor<S> {
             commands.putIfAbsent(alias, command);
         }
 
-        processor.addSubCommands(command);
+        processor.addSubCommands(command, subCommands);
     }
 
     /**
      * Executes the given command for the given sender.
      *
      * @param commandName The command name.
+     * @param guildId     The id of the guild the command was sent in, or 0 outside guilds.
+     * @param member      The member that sent the command, or null outside guilds.
      * @param sender      The command sender.
      * @param args        The command arguments.
      */
     public void execute(
             final @NotNull String commandName,
+            final long guildId,
+            final @Nullable Member member,
             final @NotNull S sender,
             final @NotNull List<@NotNull String> args
     ) {
@@ -93,7 +103,7 @@ final class PrefixedCommandExecutor<S> {
             return;
         }
 
-        command.execute(sender, args);
+        command.execute(guildId, member, sender, args);
     }
 
 }
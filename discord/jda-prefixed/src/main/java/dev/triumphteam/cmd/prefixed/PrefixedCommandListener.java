@@ -30,18 +30,15 @@ import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
-import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Listener for the JDA's {@link MessageReceivedEvent}, which triggers the command execution.
@@ -51,6 +48,7 @@ import java.util.regex.Pattern;
 final class PrefixedCommandListener<S> extends ListenerAdapter {
 
     private final PrefixedCommandManager<S> commandManager;
+    private final RegistryContainer<S> registryContainer;
     private final MessageRegistry<S> messageRegistry;
     private final SenderMapper<PrefixedSender, S> senderMapper;
 
@@ -60,6 +58,7 @@ final class PrefixedCommandListener<S> extends ListenerAdapter {
             final @NotNull SenderMapper<PrefixedSender, S> senderMapper
     ) {
         this.commandManager = commandManager;
+        this.registryContainer = registryContainer;
         this.messageRegistry = registryContainer.getMessageRegistry();
         this.senderMapper = senderMapper;
     }
@@ -67,6 +66,7 @@ final class PrefixedCommandListener<S> extends ListenerAdapter {
     /**
      * Listener method.
      * Listens to every message to detect the command.
+     * Most messages aren't commands, so the prefix is matched on the raw content before anything is allocated.
      *
      * @param event The event object.
      * @throws CommandExecutionException If the sender mapper returns null.
@@ -76,50 +76,65 @@ final class PrefixedCommandListener<S> extends ListenerAdapter {
         final User author = event.getAuthor();
         if (author.isBot()) return;
 
-        final Guild guild = event.getGuild();
         final Message message = event.getMessage();
-        final List<String> args = Arrays.asList(message.getContentRaw().split(" "));
+        final String content = message.getContentRaw();
+
+        final String guildPrefix = event.isFromGuild() ? commandManager.getGuildPrefix(event.getGuild()) : null;
+        final String matched = commandManager.getPrefixTrie().match(content);
+
+        final String prefix;
+        final String registeredPrefix;
+        final boolean fromGuildPrefix;
+        if (guildPrefix != null && PrefixTrie.startsWithPrefix(content, guildPrefix) && (matched == null || guildPrefix.length() >= matched.length())) {
+            // The guild's custom prefix stands in for the global prefix
+            prefix = guildPrefix;
+            registeredPrefix = commandManager.getGlobalPrefix();
+            fromGuildPrefix = true;
+        } else {
+            if (matched == null) return;
+            if (guildPrefix != null && matched.equals(commandManager.getGlobalPrefix())) return;
+            prefix = matched;
+            registeredPrefix = matched;
+            fromGuildPrefix = false;
+        }
+
+        PrefixedCommandExecutor<S> commandExecutor = commandManager.getCommand(registeredPrefix);
+        if (commandExecutor == null && event.isFromGuild()) commandExecutor = commandManager.getCommand(event.getGuild(), registeredPrefix);
+        // Nothing is registered under the global prefix, so the guild prefix has no commands to stand in for
+        if (commandExecutor == null && fromGuildPrefix) return;
 
         final S sender = senderMapper.map(new PrefixedCommandSender(message));
         if (sender == null) {
-            throw new CommandExecutionException("Invalid sender. Sender mapper returned null");
+            throw new CommandExecutionException("Invalid sender. Sender mapper returned null", registryContainer.isDebug());
         }
 
-        if (args.isEmpty()) return;
-
-        final String firstArg = args.get(0);
-        final String prefix = getPrefix(firstArg);
-
-        if (prefix == null) return;
+        final int nameEnd = content.indexOf(' ', prefix.length());
+        final String commandName = nameEnd == -1 ? content.substring(prefix.length()) : content.substring(prefix.length(), nameEnd);
 
-        final String commandName = firstArg.replace(prefix, "");
-
-        PrefixedCommandExecutor<S> commandExecutor = commandManager.getCommand(prefix);
-        if (commandExecutor == null) commandExecutor = commandManager.getCommand(guild, prefix);
         if (commandExecutor == null) {
             messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, sender, new DefaultMessageContext(commandName, ""));
             return;
         }
 
-        commandExecutor.execute(commandName, sender, args.subList(1, args.size()));
+        commandExecutor.execute(
+                commandName,
+                event.isFromGuild() ? event.getGuild().getIdLong() : 0L,
+                event.getMember(),
+                sender,
+                getArguments(content, nameEnd)
+        );
     }
 
     /**
-     * Checks if the command string contains a valid prefix, returns null if it doesn't.
+     * Splits what comes after the command name into the command arguments.
      *
-     * @param command The command string.
-     * @return A prefix from the allowed prefixes.
+     * @param content The raw message content.
+     * @param nameEnd The index of the space after the command name, or -1 if there is none.
+     * @return The command arguments.
      */
-    private @Nullable String getPrefix(final @NotNull String command) {
-        for (Pattern prefix : commandManager.getPrefixesRegexes()) {
-            final Matcher matcher = prefix.matcher(command);
-
-            if (matcher.find()) {
-                return matcher.group("prefix");
-            }
-        }
-
-        return null;
+    private static @NotNull List<@NotNull String> getArguments(final @NotNull String content, final int nameEnd) {
+        if (nameEnd == -1 || nameEnd + 1 == content.length()) return Collections.emptyList();
+        return Arrays.asList(content.substring(nameEnd + 1).split(" "));
     }
 
 }
@@ -26,14 +26,21 @@ package dev.triumphteam.cmd.prefixed;
 import com.google.common.primitives.Longs;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.processor.CommandModelCache;
+import dev.triumphteam.cmd.core.processor.ProcessedCommand;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import dev.triumphteam.cmd.jda.GuildCommandToggles;
+import dev.triumphteam.cmd.jda.MemberRoleCache;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
@@ -46,10 +53,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -69,10 +78,14 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
 
     private final RegistryContainer<S> registryContainer = new RegistryContainer<>();
 
-    private final Set<String> prefixes = new HashSet<>();
-    private final Set<Pattern> prefixesRegexes = new HashSet<>();
-    private final Map<String, PrefixedCommandExecutor<S>> globalCommands = new HashMap<>();
-    private final Map<Long, Map<String, PrefixedCommandExecutor<S>>> guildCommands = new HashMap<>();
+    private final Set<String> prefixes = new CopyOnWriteArraySet<>();
+    private final PrefixTrie prefixTrie = new PrefixTrie();
+    private final GuildPrefixes guildPrefixes = new GuildPrefixes();
+    private final GuildCommandToggles toggles = new GuildCommandToggles();
+    private final MemberRoleCache memberRoles;
+    private final SnapshotMap<String, PrefixedCommandExecutor<S>> globalCommands = new SnapshotMap<>();
+    private final LongObjectMap<SnapshotMap<String, PrefixedCommandExecutor<S>>> guildCommands = new LongObjectMap<>();
+    private final CommandModelCache<ProcessedCommand<PrefixedCommandProcessor<S>, S, PrefixedSubCommand<S>>> commandModels = new CommandModelCache<>();
 
     private final String globalPrefix;
 
@@ -87,8 +100,9 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
     ) {
         super(senderMapper, senderValidator);
         this.globalPrefix = globalPrefix;
+        this.memberRoles = new MemberRoleCache(jda);
 
-        jda.addEventListener(new PrefixedCommandListener<>(this, registryContainer, senderMapper));
+        jda.addEventListener(new PrefixedCommandListener<>(this, registryContainer, senderMapper), memberRoles);
     }
 
     /**
@@ -168,7 +182,7 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
      */
     @Override
     public void registerCommand(final @NotNull BaseCommand baseCommand) {
-        addCommand(null, baseCommand);
+        prepareCommand(baseCommand).run();
     }
 
     /**
@@ -178,7 +192,7 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
      * @param baseCommand The {@link BaseCommand} to be registered.
      */
     public void registerCommand(final @NotNull Guild guild, final @NotNull BaseCommand baseCommand) {
-        addCommand(guild, baseCommand);
+        prepareCommand(guild, baseCommand).run();
     }
 
     /**
@@ -198,27 +212,157 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
         // TODO: 11/23/2021 Add unregistering commands and also guild commands
     }
 
+    /**
+     * Sets a custom prefix for the guild, used instead of the global prefix from the next message on.
+     *
+     * @param guild  The {@link Guild}.
+     * @param prefix The new prefix, can't be empty or contain spaces.
+     * @throws java.io.UncheckedIOException If a guild prefix file is set and can't be written.
+     */
+    public void setGuildPrefix(final @NotNull Guild guild, final @NotNull String prefix) {
+        setGuildPrefix(guild.getIdLong(), prefix);
+    }
+
+    /**
+     * Sets a custom prefix for the guild, used instead of the global prefix from the next message on.
+     *
+     * @param guildId The id of the guild.
+     * @param prefix  The new prefix, can't be empty or contain spaces.
+     * @throws java.io.UncheckedIOException If a guild prefix file is set and can't be written.
+     */
+    public void setGuildPrefix(final long guildId, final @NotNull String prefix) {
+        if (prefix.isEmpty() || prefix.indexOf(' ') != -1) {
+            throw new IllegalArgumentException("The guild prefix cannot be empty or contain spaces.");
+        }
+
+        guildPrefixes.set(guildId, prefix);
+    }
+
+    /**
+     * Removes the custom prefix of the guild, going back to the global prefix.
+     *
+     * @param guildId The id of the guild.
+     * @throws java.io.UncheckedIOException If a guild prefix file is set and can't be written.
+     */
+    public void removeGuildPrefix(final long guildId) {
+        guildPrefixes.remove(guildId);
+    }
+
+    /**
+     * Gets the custom prefix of the guild.
+     *
+     * @param guildId The id of the guild.
+     * @return The custom prefix, or null if the guild uses the global prefix.
+     */
+    public @Nullable String getGuildPrefix(final long guildId) {
+        return guildPrefixes.get(guildId);
+    }
+
+    /**
+     * Persists the guild prefixes to the given file, loading the ones already stored in it.
+     * The file is an append only log that's compacted once most of it is outdated, or through {@link #compactGuildPrefixes()}.
+     *
+     * @param file The file, or null to keep the guild prefixes only in memory.
+     * @throws java.io.UncheckedIOException If the file can't be opened.
+     */
+    public void setGuildPrefixFile(final @Nullable Path file) {
+        guildPrefixes.setFile(file);
+    }
+
+    /**
+     * Rewrites the guild prefix file with only the current prefixes.
+     *
+     * @throws java.io.UncheckedIOException If the file can't be written.
+     */
+    public void compactGuildPrefixes() {
+        guildPrefixes.compact();
+    }
+
+    /**
+     * Disables commands in the guild, they are ignored there until enabled again.
+     * Commands are referenced by name, sub commands by the command and sub command names separated by a space.
+     * Names that aren't registered yet are ignored.
+     *
+     * @param guild    The {@link Guild}.
+     * @param commands The commands to disable.
+     */
+    public void disableCommands(final @NotNull Guild guild, final @NotNull String @NotNull ... commands) {
+        toggles.disable(guild.getIdLong(), Arrays.asList(commands));
+    }
+
+    /**
+     * Enables commands previously disabled in the guild.
+     *
+     * @param guild    The {@link Guild}.
+     * @param commands The commands to enable.
+     */
+    public void enableCommands(final @NotNull Guild guild, final @NotNull String @NotNull ... commands) {
+        toggles.enable(guild.getIdLong(), Arrays.asList(commands));
+    }
+
+    /**
+     * Replaces all the disabled commands of the guild at once.
+     *
+     * @param guild    The {@link Guild}.
+     * @param commands The commands that should be disabled, every other command is enabled.
+     */
+    public void setDisabledCommands(final @NotNull Guild guild, final @NotNull Collection<@NotNull String> commands) {
+        toggles.setDisabled(guild.getIdLong(), commands);
+    }
+
+    /**
+     * Checks if a command is disabled in the guild.
+     *
+     * @param guild   The {@link Guild}.
+     * @param command The command, or the command and sub command names separated by a space.
+     * @return Whether the command is disabled.
+     */
+    public boolean isCommandDisabled(final @NotNull Guild guild, final @NotNull String command) {
+        return toggles.isDisabled(guild.getIdLong(), command);
+    }
+
     @Override
     protected @NotNull RegistryContainer<S> getRegistryContainer() {
         return registryContainer;
     }
 
     /**
-     * Adds a command to the manager.
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Runnable prepareCommand(final @NotNull BaseCommand baseCommand) {
+        return prepareCommand(null, baseCommand);
+    }
+
+    /**
+     * Processes a command, the returned task then adds it to the manager.
+     * The processed command is shared by every guild it's registered in.
      *
      * @param guild       The guild to add the command to or null if it's a global command.
      * @param baseCommand The {@link BaseCommand} to be added.
+     * @return The task that adds the processed command to the manager.
      */
-    private void addCommand(final @Nullable Guild guild, final @NotNull BaseCommand baseCommand) {
-        final PrefixedCommandProcessor<S> processor = new PrefixedCommandProcessor<>(
+    private @NotNull Runnable prepareCommand(final @Nullable Guild guild, final @NotNull BaseCommand baseCommand) {
+        final ProcessedCommand<PrefixedCommandProcessor<S>, S, PrefixedSubCommand<S>> model = commandModels.get(
                 baseCommand,
-                registryContainer,
-                getSenderMapper(),
-                getSenderValidator(),
-                syncExecutionProvider,
-                asyncExecutionProvider
+                registryContainer.getVersion(),
+                () -> {
+                    final PrefixedCommandProcessor<S> processor = new PrefixedCommandProcessor<>(
+                            baseCommand,
+                            registryContainer,
+                            getSenderMapper(),
+                            getSenderValidator(),
+                            syncExecutionProvider,
+                            asyncExecutionProvider,
+                            toggles,
+                            memberRoles
+                    );
+                    return new ProcessedCommand<>(processor, processor.createSubCommands());
+                }
         );
 
+        final PrefixedCommandProcessor<S> processor = model.getProcessor();
+
         String prefix = processor.getPrefix();
         if (prefix.isEmpty()) {
             if (globalPrefix.isEmpty()) {
@@ -228,43 +372,47 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
             prefix = globalPrefix;
         }
 
-        prefixes.add(prefix);
-        // TODO: 11/26/2021 Join into a map
-        prefixesRegexes.add(Pattern.compile("^(?<prefix>" + Pattern.quote(prefix) + ")[\\w]"));
+        final String commandPrefix = prefix;
+        final List<SubCommandHolder<S, PrefixedSubCommand<S>>> subCommands = model.getSubCommands();
 
-        // Global command
-        if (guild == null) {
-            final PrefixedCommandExecutor<S> commandExecutor = globalCommands.computeIfAbsent(
-                    prefix,
-                    ignored -> new PrefixedCommandExecutor<>(registryContainer.getMessageRegistry(), syncExecutionProvider, asyncExecutionProvider)
-            );
+        return () -> {
+            prefixes.add(commandPrefix);
+            prefixTrie.add(commandPrefix);
 
-            for (final String alias : processor.getAlias()) {
-                globalCommands.putIfAbsent(alias, commandExecutor);
-            }
+            // Global command
+            if (guild == null) {
+                final PrefixedCommandExecutor<S> commandExecutor = globalCommands.computeIfAbsent(
+                        commandPrefix,
+                        ignored -> new PrefixedCommandExecutor<>(registryContainer.getMessageRegistry(), syncExecutionProvider, asyncExecutionProvider)
+                );
 
-            commandExecutor.register(processor);
-            return;
-        }
+                for (final String alias : processor.getAlias()) {
+                    globalCommands.putIfAbsent(alias, commandExecutor);
+                }
 
-        // Guild command
-        final PrefixedCommandExecutor<S> commandExecutor = guildCommands
-                .computeIfAbsent(guild.getIdLong(), ignored -> new HashMap<>())
-                .computeIfAbsent(
-                        prefix,
-                        ignored -> new PrefixedCommandExecutor<>(
-                                registryContainer.getMessageRegistry(),
-                                syncExecutionProvider,
-                                asyncExecutionProvider
-                        )
-                );
+                commandExecutor.register(processor, subCommands);
+                return;
+            }
 
-        for (final String alias : processor.getAlias()) {
-            // TODO: 12/7/2021 Alias need rework
-            //guildCommands.putIfAbsent(Pair.of(guild.getIdLong(), alias), commandExecutor);
-        }
+            // Guild command
+            final PrefixedCommandExecutor<S> commandExecutor = guildCommands
+                    .computeIfAbsent(guild.getIdLong(), ignored -> new SnapshotMap<>())
+                    .computeIfAbsent(
+                            commandPrefix,
+                            ignored -> new PrefixedCommandExecutor<>(
+                                    registryContainer.getMessageRegistry(),
+                                    syncExecutionProvider,
+                                    asyncExecutionProvider
+                            )
+                    );
 
-        commandExecutor.register(processor);
+            for (final String alias : processor.getAlias()) {
+                // TODO: 12/7/2021 Alias need rework
+                //guildCommands.putIfAbsent(Pair.of(guild.getIdLong(), alias), commandExecutor);
+            }
+
+            commandExecutor.register(processor, subCommands);
+        };
     }
 
     /**
@@ -275,7 +423,7 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
      * @return The {@link BaseCommand} or null if it doesn't exist.
      */
     @Nullable PrefixedCommandExecutor<S> getCommand(final @NotNull Guild guild, final @NotNull String prefix) {
-        final Map<String, PrefixedCommandExecutor<S>> commands = guildCommands.get(guild.getIdLong());
+        final SnapshotMap<String, PrefixedCommandExecutor<S>> commands = guildCommands.get(guild.getIdLong());
         return commands != null ? commands.get(prefix) : null;
     }
 
@@ -299,12 +447,31 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
     }
 
     /**
-     * Gets a {@link Set} with all registered prefixes regexes.
+     * Gets the custom prefix of the guild.
+     *
+     * @param guild The {@link Guild}.
+     * @return The custom prefix, or null if the guild uses the global prefix.
+     */
+    @Nullable String getGuildPrefix(final @NotNull Guild guild) {
+        return guildPrefixes.get(guild.getIdLong());
+    }
+
+    /**
+     * Gets the global prefix.
+     *
+     * @return The global prefix, empty if there is none.
+     */
+    @NotNull String getGlobalPrefix() {
+        return globalPrefix;
+    }
+
+    /**
+     * Gets the trie used to match the registered prefixes.
      *
-     * @return A {@link Set} with all the registered prefixes regexes.
+     * @return The prefix trie.
      */
-    @NotNull Set<@NotNull Pattern> getPrefixesRegexes() {
-        return prefixesRegexes;
+    @NotNull PrefixTrie getPrefixTrie() {
+        return prefixTrie;
     }
 
     private static void setUpDefaults(final @NotNull PrefixedCommandManager<PrefixedSender> manager) {
@@ -24,17 +24,19 @@
 package dev.triumphteam.cmd.prefixed;
 
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.jda.GuildCommandToggles;
+import dev.triumphteam.cmd.jda.MemberRoleCache;
+import dev.triumphteam.cmd.jda.RoleGate;
 import dev.triumphteam.cmd.prefixed.annotation.Prefix;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-
 /**
  * Processor for Prefixed JDA platform specific code.
  *
@@ -43,6 +45,9 @@ import java.lang.reflect.Method;
 final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<PrefixedSender, S, PrefixedSubCommand<S>, PrefixedSubCommandProcessor<S>> {
 
     private final String prefix;
+    private final GuildCommandToggles toggles;
+    private final MemberRoleCache memberRoles;
+    private final RoleGate roleGate;
 
     public PrefixedCommandProcessor(
             final @NotNull BaseCommand baseCommand,
@@ -50,10 +55,15 @@ final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<Prefixe
             final @NotNull SenderMapper<PrefixedSender, S> senderMapper,
             final @NotNull SenderValidator<S> senderValidator,
             final @NotNull ExecutionProvider syncExecutionProvider,
-            final @NotNull ExecutionProvider asyncExecutionProvider
+            final @NotNull ExecutionProvider asyncExecutionProvider,
+            final @NotNull GuildCommandToggles toggles,
+            final @NotNull MemberRoleCache memberRoles
     ) {
         super(baseCommand, registryContainer, senderMapper, senderValidator, syncExecutionProvider, asyncExecutionProvider);
         prefix = extractPrefix();
+        this.toggles = toggles;
+        this.memberRoles = memberRoles;
+        this.roleGate = RoleGate.from(baseCommand.getClass());
     }
 
     /**
@@ -66,6 +76,33 @@ final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<Prefixe
         return prefix;
     }
 
+    /**
+     * Gets the per guild toggles the command checks before executing.
+     *
+     * @return The {@link GuildCommandToggles}.
+     */
+    public @NotNull GuildCommandToggles getToggles() {
+        return toggles;
+    }
+
+    /**
+     * Gets the cache used to look up the roles of the member using the command.
+     *
+     * @return The {@link MemberRoleCache}.
+     */
+    public @NotNull MemberRoleCache getMemberRoles() {
+        return memberRoles;
+    }
+
+    /**
+     * Gets the role restrictions from the command's role annotations.
+     *
+     * @return The {@link RoleGate}.
+     */
+    public @NotNull RoleGate getRoleGate() {
+        return roleGate;
+    }
+
     /**
      * Extracts the prefix from the command class.
      *
@@ -77,11 +114,11 @@ final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<Prefixe
     }
 
     @Override
-    protected @NotNull PrefixedSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull PrefixedSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new PrefixedSubCommandProcessor<>(
                 getBaseCommand(),
                 getName(),
-                method,
+                descriptor,
                 getRegistryContainer(),
                 getSenderValidator()
         );
@@ -89,6 +126,6 @@ final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<Prefixe
 
     @Override
     protected @NotNull PrefixedSubCommand<S> createSubCommand(final @NotNull PrefixedSubCommandProcessor<S> processor, final @NotNull ExecutionProvider executionProvider) {
-        return new PrefixedSubCommand<>(processor, getName(), executionProvider);
+        return new PrefixedSubCommand<>(processor, getName(), executionProvider, toggles.ordinal(getName(), processor.getName()));
     }
 }
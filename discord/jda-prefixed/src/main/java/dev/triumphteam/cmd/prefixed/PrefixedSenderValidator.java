@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.prefixed;
 import com.google.common.collect.ImmutableSet;
 import dev.triumphteam.cmd.core.SubCommand;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.sender.SenderCheck;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
 import org.jetbrains.annotations.NotNull;
@@ -56,4 +57,15 @@ class PrefixedSenderValidator implements SenderValidator<PrefixedSender> {
     ) {
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull SenderCheck<PrefixedSender> prepare(
+            final @NotNull MessageRegistry<PrefixedSender> messageRegistry,
+            final @NotNull SubCommand<PrefixedSender> subCommand
+    ) {
+        return sender -> true;
+    }
 }
@@ -30,11 +30,24 @@ import org.jetbrains.annotations.NotNull;
 
 final class PrefixedSubCommand<S> extends AbstractSubCommand<S> {
 
+    private final int ordinal;
+
     public PrefixedSubCommand(
             final @NotNull AbstractSubCommandProcessor<S> processor,
             final @NotNull String parentName,
-            final @NotNull ExecutionProvider executionProvider
+            final @NotNull ExecutionProvider executionProvider,
+            final int ordinal
     ) {
         super(processor, parentName, executionProvider);
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Gets the ordinal used to toggle the sub command per guild.
+     *
+     * @return The sub command's ordinal.
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 }
@@ -25,15 +25,13 @@ package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.argument.StringInternalArgument;
 import dev.triumphteam.cmd.core.suggestion.Suggestion;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class AttachmentArgument<S> extends StringInternalArgument<S> {
-
-    private final AttachmentRegistry attachmentRegistry;
+public class AttachmentArgument<S> extends StringInternalArgument<S> implements InvocationArgument<S> {
 
     public AttachmentArgument(
-            final @NotNull AttachmentRegistry attachmentRegistry,
             final @NotNull String name,
             final @NotNull String description,
             final @NotNull Class<?> type,
@@ -42,11 +40,23 @@ public class AttachmentArgument<S> extends StringInternalArgument<S> {
             final boolean optional
     ) {
         super(name, description, type, suggestion, position, optional);
-        this.attachmentRegistry = attachmentRegistry;
     }
 
+    /**
+     * Attachments only exist on the interaction, the option's string value is just their id.
+     *
+     * @param sender The sender to resolve to.
+     * @param value  The argument value.
+     * @return Always null.
+     */
     @Override
     public @Nullable Object resolve(final @NotNull S sender, final @NotNull String value) {
-        return attachmentRegistry.getAttachment(value);
+        return null;
+    }
+
+    @Override
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+        final OptionMapping option = invocation.getOption(getName());
+        return option == null ? null : option.getAsAttachment();
     }
 }
@@ -23,22 +23,22 @@
  */
 package dev.triumphteam.cmd.slash;
 
-import com.google.common.collect.MapMaker;
-import net.dv8tion.jda.api.entities.Message;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-
-class AttachmentRegistry {
-
-    private final Map<String, Message.Attachment> attachments = new MapMaker().weakValues().makeMap();
-
-    public Message.@Nullable Attachment getAttachment(final @NotNull String id) {
-        return attachments.get(id);
-    }
+/**
+ * An argument that can only be resolved from the interaction itself, rather than from the option's string value.
+ *
+ * @param <S> The sender type.
+ */
+public interface InvocationArgument<S> {
 
-    public void addAttachment(final @NotNull String id, final Message.@NotNull Attachment attachment) {
-        attachments.put(id, attachment);
-    }
+    /**
+     * Resolves the argument from the invocation.
+     *
+     * @param sender     The sender.
+     * @param invocation The current {@link SlashInvocation}.
+     * @return The resolved value, or null if it couldn't be resolved.
+     */
+    @Nullable Object resolve(final @NotNull S sender, final @NotNull SlashInvocation invocation);
 }
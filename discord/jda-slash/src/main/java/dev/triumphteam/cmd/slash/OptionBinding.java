@@ -0,0 +1,236 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.slash;
+
+import dev.triumphteam.cmd.core.argument.InternalArgument;
+import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
+import dev.triumphteam.cmd.core.argument.StringInternalArgument;
+import dev.triumphteam.cmd.slash.util.JdaOptionUtil;
+import net.dv8tion.jda.api.entities.GuildChannel;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binds one slash option to the parameter at the same position of the command method.
+ * Options Discord already sends typed, like numbers and entities, are read as is, attachments come from the invocation.
+ * Everything else goes through the argument's resolver with the option's string value.
+ *
+ * @param <S> The sender type.
+ */
+abstract class OptionBinding<S> {
+
+    /**
+     * Returned when a required option wasn't sent.
+     */
+    static final Object MISSING = new Object();
+    /**
+     * Returned when the option couldn't be bound to the parameter type.
+     */
+    static final Object INVALID = new Object();
+
+    private final String name;
+    protected final boolean optional;
+
+    private OptionBinding(final @NotNull InternalArgument<S, ?> argument) {
+        this.name = argument.getName();
+        this.optional = argument.isOptional();
+    }
+
+    /**
+     * Creates the binding for the given argument, picking the typed reader when the option type allows it.
+     *
+     * @param argument The argument.
+     * @return The binding.
+     */
+    @SuppressWarnings("unchecked")
+    static <S> @NotNull OptionBinding<S> of(final @NotNull InternalArgument<S, ?> argument) {
+        if (argument instanceof InvocationArgument) {
+            return new FromInvocation<>(argument, (InvocationArgument<S>) argument);
+        }
+
+        final Reader reader = reader(argument.getType());
+        if (reader != null) return new Typed<>(argument, reader);
+
+        if (argument instanceof LimitlessInternalArgument) {
+            return new Limitless<>((LimitlessInternalArgument<S>) argument);
+        }
+
+        return new Resolved<>((StringInternalArgument<S>) argument);
+    }
+
+    /**
+     * Gets the typed reader for the parameter type, only for types sent as their own option type.
+     *
+     * @param type The parameter type.
+     * @return The reader or null if the option is sent as a string.
+     */
+    private static @Nullable Reader reader(final @NotNull Class<?> type) {
+        final OptionType optionType = JdaOptionUtil.fromType(type);
+        switch (optionType) {
+            case INTEGER:
+                if (type == long.class || type == Long.class) return OptionMapping::getAsLong;
+                if (type == int.class || type == Integer.class) return option -> toInt(option.getAsLong());
+                if (type == short.class || type == Short.class) return option -> toShort(option.getAsLong());
+                return null;
+            case NUMBER:
+                return OptionMapping::getAsDouble;
+            case BOOLEAN:
+                return OptionMapping::getAsBoolean;
+            case USER:
+                return type == Member.class ? OptionMapping::getAsMember : OptionMapping::getAsUser;
+            case ROLE:
+                return OptionMapping::getAsRole;
+            case CHANNEL:
+                return option -> {
+                    final GuildChannel channel = option.getAsGuildChannel();
+                    return type.isInstance(channel) ? channel : null;
+                };
+            default:
+                return null;
+        }
+    }
+
+    // Discord integers go up to 2^53, so values that don't fit the parameter are invalid instead of overflowing
+    private static @Nullable Integer toInt(final long value) {
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? null : (int) value;
+    }
+
+    private static @Nullable Short toShort(final long value) {
+        return value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : (short) value;
+    }
+
+    /**
+     * Gets the name of the option.
+     *
+     * @return The option name.
+     */
+    @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Binds the option to the parameter type.
+     *
+     * @param sender     The sender.
+     * @param invocation The invocation with the options.
+     * @return The bound value, {@link #MISSING} or {@link #INVALID}.
+     */
+    abstract @Nullable Object bind(final @NotNull S sender, final @NotNull SlashInvocation invocation);
+
+    /**
+     * Reads a typed value from an option.
+     */
+    @FunctionalInterface
+    private interface Reader {
+
+        /**
+         * Reads the value.
+         *
+         * @param option The option.
+         * @return The value, or null if it doesn't fit the parameter.
+         */
+        @Nullable Object read(final @NotNull OptionMapping option);
+    }
+
+    private static final class Typed<S> extends OptionBinding<S> {
+
+        private final Reader reader;
+
+        private Typed(final @NotNull InternalArgument<S, ?> argument, final @NotNull Reader reader) {
+            super(argument);
+            this.reader = reader;
+        }
+
+        @Override
+        @Nullable Object bind(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+            final OptionMapping option = invocation.getOption(getName());
+            if (option == null) return optional ? null : MISSING;
+
+            final Object result = reader.read(option);
+            return result == null ? INVALID : result;
+        }
+    }
+
+    private static final class Resolved<S> extends OptionBinding<S> {
+
+        private final StringInternalArgument<S> argument;
+
+        private Resolved(final @NotNull StringInternalArgument<S> argument) {
+            super(argument);
+            this.argument = argument;
+        }
+
+        @Override
+        @Nullable Object bind(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+            final OptionMapping option = invocation.getOption(getName());
+            final String value = option == null ? "" : option.getAsString();
+            if (value.isEmpty()) return optional ? null : MISSING;
+
+            final Object result = argument.resolve(sender, value);
+            return result == null ? INVALID : result;
+        }
+    }
+
+    private static final class Limitless<S> extends OptionBinding<S> {
+
+        private final LimitlessInternalArgument<S> argument;
+
+        private Limitless(final @NotNull LimitlessInternalArgument<S> argument) {
+            super(argument);
+            this.argument = argument;
+        }
+
+        @Override
+        @Nullable Object bind(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+            final OptionMapping option = invocation.getOption(getName());
+            final List<String> value = option == null ? Collections.emptyList() : Collections.singletonList(option.getAsString());
+            final Object result = argument.resolve(sender, value);
+            return result == null ? INVALID : result;
+        }
+    }
+
+    private static final class FromInvocation<S> extends OptionBinding<S> {
+
+        private final InvocationArgument<S> argument;
+
+        private FromInvocation(final @NotNull InternalArgument<S, ?> internalArgument, final @NotNull InvocationArgument<S> argument) {
+            super(internalArgument);
+            this.argument = argument;
+        }
+
+        @Override
+        @Nullable Object bind(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+            if (invocation.getOption(getName()) == null) return optional ? null : MISSING;
+
+            final Object result = argument.resolve(sender, invocation);
+            return result == null ? INVALID : result;
+        }
+    }
+}
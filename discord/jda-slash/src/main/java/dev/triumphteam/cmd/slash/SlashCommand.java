@@ -24,13 +24,20 @@
 package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.Command;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.result.CommandResult;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import dev.triumphteam.cmd.jda.GuildCommandToggles;
+import dev.triumphteam.cmd.jda.MemberRoleCache;
+import dev.triumphteam.cmd.jda.RoleGate;
 import dev.triumphteam.cmd.slash.choices.ChoiceRegistry;
 import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
@@ -38,9 +45,8 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -50,7 +56,7 @@ import java.util.stream.Collectors;
  */
 final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
 
-    private final Map<String, SlashSubCommand<S>> subCommands = new HashMap<>();
+    private final SnapshotMap<String, SubCommandHolder<S, SlashSubCommand<S>>> subCommands = new SnapshotMap<>();
 
     private final String name;
     private final String description;
@@ -62,6 +68,12 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
 
     private final SenderValidator<S> senderValidator;
 
+    private final GuildCommandToggles toggles;
+    private final int ordinal;
+
+    private final MemberRoleCache memberRoles;
+    private final RoleGate roleGate;
+
     private final ExecutionProvider syncExecutionProvider;
     private final ExecutionProvider asyncExecutionProvider;
 
@@ -78,6 +90,10 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
         this.registryContainer = processor.getRegistryContainer();
         this.choiceRegistry = processor.getChoiceRegistry();
         this.senderValidator = processor.getSenderValidator();
+        this.toggles = processor.getToggles();
+        this.ordinal = toggles.ordinal(name);
+        this.memberRoles = processor.getMemberRoles();
+        this.roleGate = processor.getRoleGate();
 
         this.allow = allow;
 
@@ -91,7 +107,7 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
 
 
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull SlashSubCommand<S> subCommand) {
+    public void addSubCommand(final @NotNull String name, final @NotNull SubCommandHolder<S, SlashSubCommand<S>> subCommand) {
         if (name.equals(Default.DEFAULT_CMD_NAME)) {
             if (!this.subCommands.isEmpty()) {
                 throw new CommandRegistrationException(String.format("Can not register default command for '%s' because it has subcommands", this.name));
@@ -110,24 +126,71 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
     }
 
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SlashSubCommand<S> subCommand) {
+    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SubCommandHolder<S, SlashSubCommand<S>> subCommand) {
         // Doesn't support alias .. yet
     }
 
     /**
      * Executes the current command for the given sender.
+     * Commands disabled in the guild, or that the member's roles don't allow, go to the result handler instead,
+     * so the interaction is still answered.
+     *
+     * @param sender     The sender.
+     * @param invocation The invocation with the guild, member and options.
+     */
+    public void execute(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+        final SlashSubCommand<S> subCommand = getSubCommand(invocation.getSubCommandName());
+        if (subCommand == null) return;
+
+        final CommandResult denied = checkAccess(invocation.getGuildId(), invocation.getMember(), subCommand);
+        if (denied != null) {
+            registryContainer.getResultHandler().handle(sender, Collections.emptyList(), denied);
+            return;
+        }
+
+        subCommand.execute(sender, invocation);
+    }
+
+    /**
+     * Gets the sub command if the member can use it in the guild.
      *
-     * @param sender The sender.
-     * @param args   The command arguments.
+     * @param guildId        The id of the guild, or 0 outside guilds.
+     * @param member         The member, or null outside guilds.
+     * @param subCommandName The sub command name.
+     * @return The sub command, or null if it doesn't exist, is disabled or the member's roles don't allow it.
      */
-    public void execute(
-            final @NotNull S sender,
-            final @NotNull String subCommandName,
-            final @NotNull Map<@NotNull String, @NotNull String> args
+    @Nullable SlashSubCommand<S> findSubCommand(
+            final long guildId,
+            final @Nullable Member member,
+            final @NotNull String subCommandName
     ) {
         final SlashSubCommand<S> subCommand = getSubCommand(subCommandName);
-        if (subCommand == null) return;
-        subCommand.execute(sender, subCommand.mapArguments(args));
+        if (subCommand == null || checkAccess(guildId, member, subCommand) != null) return null;
+        return subCommand;
+    }
+
+    /**
+     * Checks if the member can use the sub command in the guild.
+     *
+     * @param guildId    The id of the guild, or 0 outside guilds.
+     * @param member     The member, or null outside guilds.
+     * @param subCommand The sub command.
+     * @return The result to answer with if the member can't use it, or null if they can.
+     */
+    private @Nullable CommandResult checkAccess(
+            final long guildId,
+            final @Nullable Member member,
+            final @NotNull SlashSubCommand<S> subCommand
+    ) {
+        if (toggles.isDisabled(guildId, ordinal) || toggles.isDisabled(guildId, subCommand.getOrdinal())) {
+            return subCommand.getDisabledResult();
+        }
+
+        if (!roleGate.isOpen() && (member == null || !roleGate.test(memberRoles.getRoles(member)))) {
+            return subCommand.getNoPermissionResult();
+        }
+
+        return null;
     }
 
     public @NotNull SlashCommandData asCommandData() {
@@ -145,9 +208,13 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
         }
 
         final List<SubcommandData> subData = subCommands
+                .snapshot()
                 .entrySet()
                 .stream()
-                .map(entry -> new SubcommandData(entry.getKey().toLowerCase(), entry.getValue().getDescription()).addOptions(entry.getValue().getJdaOptions()))
+                .map(entry -> {
+                    final SlashSubCommand<S> subCommand = entry.getValue().get();
+                    return new SubcommandData(entry.getKey().toLowerCase(), subCommand.getDescription()).addOptions(subCommand.getJdaOptions());
+                })
                 .collect(Collectors.toList());
 
         commandData.addSubcommands(subData);
@@ -161,7 +228,7 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
      * @return The default sub command.
      */
     private @Nullable SlashSubCommand<S> getDefaultSubCommand() {
-        return subCommands.get(Default.DEFAULT_CMD_NAME);
+        return getSubCommand(Default.DEFAULT_CMD_NAME);
     }
 
     /**
@@ -171,6 +238,7 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
      * @return A sub command or null.
      */
     private @Nullable SlashSubCommand<S> getSubCommand(final @NotNull String key) {
-        return subCommands.get(key);
+        final SubCommandHolder<S, SlashSubCommand<S>> holder = subCommands.get(key);
+        return holder == null ? null : holder.get();
     }
 }
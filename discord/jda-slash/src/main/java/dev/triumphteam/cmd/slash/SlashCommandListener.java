@@ -23,21 +23,18 @@
  */
 package dev.triumphteam.cmd.slash;
 
-import com.google.common.collect.Maps;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.slash.sender.SlashSender;
 import net.dv8tion.jda.api.entities.Guild;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
-import net.dv8tion.jda.api.interactions.commands.OptionType;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * Listener for handling slash command registration and execution.
@@ -48,7 +45,6 @@ final class SlashCommandListener<S> extends ListenerAdapter {
 
     private final SlashCommandManager<S> commandManager;
     private final SenderMapper<SlashSender, S> senderMapper;
-    private final AttachmentRegistry attachmentRegistry;
 
     public SlashCommandListener(
             final @NotNull SlashCommandManager<S> commandManager,
@@ -56,12 +52,11 @@ final class SlashCommandListener<S> extends ListenerAdapter {
     ) {
         this.commandManager = commandManager;
         this.senderMapper = senderMapper;
-        this.attachmentRegistry = commandManager.getRegistryContainer().getAttachmentRegistry();
     }
 
     /**
      * Handler for the slash commands.
-     * Needs to map the given result to the correct arguments to be used.
+     * The options are bound to the command arguments by the sub command.
      *
      * @param event The slash command event.
      * @throws CommandExecutionException If the sender mapper returns null.
@@ -79,51 +74,40 @@ final class SlashCommandListener<S> extends ListenerAdapter {
 
         final S sender = senderMapper.map(new SlashCommandSender(event));
         if (sender == null) {
-            throw new CommandExecutionException("Invalid sender. Sender mapper returned null");
+            throw new CommandExecutionException("Invalid sender. Sender mapper returned null", commandManager.getRegistryContainer().isDebug());
         }
 
-        final String subCommandName = event.getSubcommandName();
-
-        final Map<String, String> args = event.getOptions()
-                .stream()
-                .map(it -> {
-                    final OptionType type = it.getType();
-                    // Special case for attachments.
-                    if (type == OptionType.ATTACHMENT) {
-                        final Message.Attachment attachment = it.getAsAttachment();
-                        final String id = it.getAsString();
-
-                        attachmentRegistry.addAttachment(id, attachment);
-                        return Maps.immutableEntry(it.getName(), id);
-                    }
-
-                    return Maps.immutableEntry(it.getName(), it.getAsString());
-                }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        command.execute(sender, subCommandName != null ? subCommandName : Default.DEFAULT_CMD_NAME, args);
+        command.execute(sender, new SlashInvocation(event));
     }
 
-    // private static final List<String> ass = Arrays.asList("Hello", "There", "Ass", "Fuck", "Hoy");
-
-    /*@Override
+    /**
+     * Handler for autocomplete, answers with the suggestions of the focused option.
+     * The suggestions come from the option's {@link SuggestionIndex}, so the event thread never waits on a resolver.
+     * The sender is only mapped when the index has to load, and a mapper that fails gives an empty answer.
+     *
+     * @param event The autocomplete event.
+     */
+    @Override
     public void onCommandAutoCompleteInteraction(final @NotNull CommandAutoCompleteInteractionEvent event) {
         final String name = event.getName();
+        final Guild guild = event.getGuild();
         SlashCommand<S> command = commandManager.getCommand(name);
-        if (command == null) {
-            final Guild guild = event.getGuild();
-            if (guild == null) return;
-            command = commandManager.getCommand(guild, name);
-        }
-
+        if (command == null && guild != null) command = commandManager.getCommand(guild, name);
         if (command == null) return;
 
-        // final S sender = senderMapper.map(new SlashCommandSender(event));
-        event.replyChoiceStrings(
-                ass.stream()
-                        .filter(it -> it.toLowerCase(Locale.ROOT).startsWith(event.getFocusedOption().getValue().toLowerCase(Locale.ROOT)))
-                        .collect(Collectors.toList())
-        ).queue();
-    }*/
+        final long guildId = guild == null ? 0L : guild.getIdLong();
+        final String subCommandName = event.getSubcommandName() == null ? Default.DEFAULT_CMD_NAME : event.getSubcommandName();
+        final SlashSubCommand<S> subCommand = command.findSubCommand(guildId, event.getMember(), subCommandName);
+        if (subCommand == null) return;
+
+        final SuggestionIndex<S> suggestionIndex = subCommand.getSuggestionIndex(event.getFocusedOption().getName());
+        if (suggestionIndex == null) return;
+
+        final Supplier<S> sender = () -> senderMapper.map(new SlashAutoCompleteSender(event));
+        suggestionIndex
+                .suggest(sender, guildId, event.getUser().getIdLong(), event.getFocusedOption().getValue())
+                .thenAccept(suggestions -> event.replyChoiceStrings(suggestions).queue());
+    }
 
     /**
      * Updates all the commands on ready.
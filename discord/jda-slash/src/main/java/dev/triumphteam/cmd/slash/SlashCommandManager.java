@@ -23,15 +23,21 @@
  */
 package dev.triumphteam.cmd.slash;
 
-import com.google.common.collect.Maps;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.processor.CommandModelCache;
+import dev.triumphteam.cmd.core.processor.ProcessedCommand;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
+import dev.triumphteam.cmd.jda.GuildCommandToggles;
+import dev.triumphteam.cmd.jda.MemberRoleCache;
 import dev.triumphteam.cmd.slash.choices.ChoiceKey;
 import dev.triumphteam.cmd.slash.sender.SlashSender;
 import net.dv8tion.jda.api.JDA;
@@ -47,11 +53,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -68,8 +73,11 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
 
     private final SlashRegistryContainer<S> registryContainer = new SlashRegistryContainer<>();
 
-    private final Map<String, SlashCommand<S>> globalCommands = new HashMap<>();
-    private final Map<Long, Map<String, SlashCommand<S>>> guildCommands = new HashMap<>();
+    private final SnapshotMap<String, SlashCommand<S>> globalCommands = new SnapshotMap<>();
+    private final LongObjectMap<SnapshotMap<String, SlashCommand<S>>> guildCommands = new LongObjectMap<>();
+    private final CommandModelCache<ProcessedCommand<SlashCommandProcessor<S>, S, SlashSubCommand<S>>> commandModels = new CommandModelCache<>();
+    private final GuildCommandToggles toggles = new GuildCommandToggles();
+    private final MemberRoleCache memberRoles;
 
     private final ExecutionProvider syncExecutionProvider = new SyncExecutionProvider();
     private final ExecutionProvider asyncExecutionProvider = new AsyncExecutionProvider();
@@ -81,13 +89,16 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
     ) {
         super(senderMapper, senderValidator);
         this.jda = jda;
+        this.memberRoles = new MemberRoleCache(jda);
 
-        jda.addEventListener(new SlashCommandListener<>(this, senderMapper));
+        jda.addEventListener(new SlashCommandListener<>(this, senderMapper), memberRoles);
     }
 
     /**
      * Creates a new instance of the {@link SlashCommandManager}.
      * This factory is for adding a custom sender, for default sender use {@link #create(JDA)}.
+     * The mapper is also used for autocomplete, where the {@link SlashSender} can't reply or give the event.
+     * A mapper that fails there only leaves the option without suggestions.
      *
      * @param jda             The JDA instance created.
      * @param senderMapper    The Mapper to get the custom sender from.
@@ -124,7 +135,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
      */
     @Override
     public void registerCommand(final @NotNull BaseCommand baseCommand) {
-        addCommand(null, baseCommand, Collections.emptyList());
+        prepareCommand(baseCommand).run();
     }
 
     /**
@@ -134,7 +145,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
      * @param baseCommand The {@link BaseCommand} to be registered.
      */
     public void registerCommand(final @NotNull Guild guild, final @NotNull BaseCommand baseCommand) {
-        addCommand(guild, baseCommand, Collections.emptyList());
+        prepareCommand(guild, baseCommand, Collections.emptyList()).run();
     }
 
     /**
@@ -146,7 +157,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
     public void registerCommand(
             final @NotNull BaseCommand baseCommand,
             final @NotNull List<@NotNull Permission> enabledPermissions) {
-        addCommand(null, baseCommand, enabledPermissions);
+        prepareCommand(null, baseCommand, enabledPermissions).run();
     }
 
     /**
@@ -160,7 +171,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
             final @NotNull Guild guild,
             final @NotNull BaseCommand baseCommand,
             final @NotNull List<@NotNull Permission> enabledPermissions) {
-        addCommand(guild, baseCommand, enabledPermissions);
+        prepareCommand(guild, baseCommand, enabledPermissions).run();
     }
 
     /**
@@ -177,6 +188,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
 
     public void registerChoices(final @NotNull ChoiceKey key, final @NotNull Supplier<@NotNull List<@NotNull String>> choiceSupplier) {
         registryContainer.getChoiceRegistry().register(key, choiceSupplier);
+        registryContainer.incrementVersion();
     }
 
     @Override
@@ -190,19 +202,58 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
      * Or if commands are added after the initial setup.
      */
     public void updateAllCommands() {
-        jda.updateCommands().addCommands(globalCommands.values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue();
-
-        guildCommands
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    final Guild guild = jda.getGuildById(entry.getKey());
-                    return guild != null ? Maps.immutableEntry(guild, entry.getValue()) : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-                .forEach((guild, commands) -> guild.updateCommands()
-                        .addCommands(commands.values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue());
+        jda.updateCommands().addCommands(globalCommands.snapshot().values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue();
+
+        guildCommands.forEach((guildId, commands) -> {
+            final Guild guild = jda.getGuildById(guildId);
+            if (guild == null) return;
+
+            guild.updateCommands()
+                    .addCommands(commands.snapshot().values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue();
+        });
+    }
+
+    /**
+     * Disables commands in the guild until enabled again, using them there answers with {@link MessageKey#COMMAND_DISABLED}.
+     * Commands are referenced by name, sub commands by the command and sub command names separated by a space.
+     * Names that aren't registered yet are ignored.
+     *
+     * @param guild    The {@link Guild}.
+     * @param commands The commands to disable.
+     */
+    public void disableCommands(final @NotNull Guild guild, final @NotNull String @NotNull ... commands) {
+        toggles.disable(guild.getIdLong(), Arrays.asList(commands));
+    }
+
+    /**
+     * Enables commands previously disabled in the guild.
+     *
+     * @param guild    The {@link Guild}.
+     * @param commands The commands to enable.
+     */
+    public void enableCommands(final @NotNull Guild guild, final @NotNull String @NotNull ... commands) {
+        toggles.enable(guild.getIdLong(), Arrays.asList(commands));
+    }
+
+    /**
+     * Replaces all the disabled commands of the guild at once.
+     *
+     * @param guild    The {@link Guild}.
+     * @param commands The commands that should be disabled, every other command is enabled.
+     */
+    public void setDisabledCommands(final @NotNull Guild guild, final @NotNull Collection<@NotNull String> commands) {
+        toggles.setDisabled(guild.getIdLong(), commands);
+    }
+
+    /**
+     * Checks if a command is disabled in the guild.
+     *
+     * @param guild   The {@link Guild}.
+     * @param command The command, or the command and sub command names separated by a space.
+     * @return Whether the command is disabled.
+     */
+    public boolean isCommandDisabled(final @NotNull Guild guild, final @NotNull String command) {
+        return toggles.isDisabled(guild.getIdLong(), command);
     }
 
     @Override
@@ -211,42 +262,67 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
     }
 
     /**
-     * Adds a command to the manager.
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Runnable prepareCommand(final @NotNull BaseCommand baseCommand) {
+        return prepareCommand(null, baseCommand, Collections.emptyList());
+    }
+
+    /**
+     * Processes a command, the returned task then adds it to the manager.
+     * The processed command is shared by every guild it's registered in, each guild only keeps its own permissions.
      *
-     * @param guild       The guild to add the command to or null if it's a global command.
-     * @param baseCommand The {@link BaseCommand} to be added.
+     * @param guild              The guild to add the command to or null if it's a global command.
+     * @param baseCommand        The {@link BaseCommand} to be added.
+     * @param enabledPermissions The {@link Permission}s that are allowed to use the command.
+     * @return The task that adds the processed command to the manager.
      */
-    private void addCommand(
+    private @NotNull Runnable prepareCommand(
             final @Nullable Guild guild,
             final @NotNull BaseCommand baseCommand,
             final @NotNull List<@NotNull Permission> enabledPermissions
     ) {
-        final SlashCommandProcessor<S> processor = new SlashCommandProcessor<>(
+        final ProcessedCommand<SlashCommandProcessor<S>, S, SlashSubCommand<S>> model = commandModels.get(
                 baseCommand,
-                registryContainer,
-                getSenderMapper(),
-                getSenderValidator(),
-                syncExecutionProvider,
-                asyncExecutionProvider
+                registryContainer.getVersion(),
+                () -> {
+                    final SlashCommandProcessor<S> processor = new SlashCommandProcessor<>(
+                            baseCommand,
+                            registryContainer,
+                            getSenderMapper(),
+                            getSenderValidator(),
+                            syncExecutionProvider,
+                            asyncExecutionProvider,
+                            toggles,
+                            memberRoles
+                    );
+                    return new ProcessedCommand<>(processor, processor.createSubCommands());
+                }
         );
 
+        final SlashCommandProcessor<S> processor = model.getProcessor();
         final String name = processor.getName();
 
         final List<Permission> finalEnabledPermissions = new ArrayList<>(enabledPermissions);
 
         finalEnabledPermissions.addAll(processor.getEnabledPermissions());
 
-        final SlashCommand<S> command;
-        if (guild == null) {
-            // Global command
-            command = globalCommands.computeIfAbsent(name, ignored -> new SlashCommand<>(processor, enabledPermissions, syncExecutionProvider, asyncExecutionProvider));
-        } else {
-            command = guildCommands
-                    .computeIfAbsent(guild.getIdLong(), map -> new HashMap<>())
-                    .computeIfAbsent(name, ignored -> new SlashCommand<>(processor, finalEnabledPermissions, syncExecutionProvider, asyncExecutionProvider));
-        }
-
-        processor.addSubCommands(command);
+        final List<SubCommandHolder<S, SlashSubCommand<S>>> subCommands = model.getSubCommands();
+
+        return () -> {
+            final SlashCommand<S> command;
+            if (guild == null) {
+                // Global command
+                command = globalCommands.computeIfAbsent(name, ignored -> new SlashCommand<>(processor, enabledPermissions, syncExecutionProvider, asyncExecutionProvider));
+            } else {
+                command = guildCommands
+                        .computeIfAbsent(guild.getIdLong(), map -> new SnapshotMap<>())
+                        .computeIfAbsent(name, ignored -> new SlashCommand<>(processor, finalEnabledPermissions, syncExecutionProvider, asyncExecutionProvider));
+            }
+
+            processor.addSubCommands(command, subCommands);
+        };
     }
 
     /**
@@ -267,7 +343,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
      * @return The {@link SlashCommand} or null if it doesn't exist.
      */
     @Nullable SlashCommand<S> getCommand(@NotNull Guild guild, final @NotNull String name) {
-        final Map<String, SlashCommand<S>> commands = guildCommands.get(guild.getIdLong());
+        final SnapshotMap<String, SlashCommand<S>> commands = guildCommands.get(guild.getIdLong());
         return commands != null ? commands.get(name) : null;
     }
 
@@ -281,6 +357,8 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
         manager.registerMessage(MessageKey.TOO_MANY_ARGUMENTS, (sender, context) -> sender.reply("Invalid usage.").setEphemeral(true).queue());
         manager.registerMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, (sender, context) -> sender.reply("Invalid usage.").setEphemeral(true).queue());
         manager.registerMessage(MessageKey.INVALID_ARGUMENT, (sender, context) -> sender.reply("Invalid argument `" + context.getTypedArgument() + "` for type `" + context.getArgumentType().getSimpleName() + "`.").setEphemeral(true).queue());
+        manager.registerMessage(MessageKey.COMMAND_DISABLED, (sender, context) -> sender.reply("This command is disabled here.").setEphemeral(true).queue());
+        manager.registerMessage(MessageKey.NO_PERMISSION, (sender, context) -> sender.reply("You do not have permission to use this command.").setEphemeral(true).queue());
 
         manager.registerArgument(Member.class, (sender, arg) -> {
             final Guild guild = sender.getGuild();
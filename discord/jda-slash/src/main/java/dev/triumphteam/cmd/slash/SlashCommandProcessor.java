@@ -24,22 +24,21 @@
 package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
-import dev.triumphteam.cmd.jda.annotation.Privileges;
-import dev.triumphteam.cmd.jda.annotation.Roles;
+import dev.triumphteam.cmd.jda.GuildCommandToggles;
+import dev.triumphteam.cmd.jda.MemberRoleCache;
+import dev.triumphteam.cmd.jda.RoleGate;
 import dev.triumphteam.cmd.slash.choices.ChoiceRegistry;
 import dev.triumphteam.cmd.slash.sender.SlashSender;
 import net.dv8tion.jda.api.Permission;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -51,6 +50,9 @@ final class SlashCommandProcessor<S>
         extends AbstractCommandProcessor<SlashSender, S, SlashSubCommand<S>, SlashSubCommandProcessor<S>> {
 
     private final ChoiceRegistry choiceRegistry;
+    private final GuildCommandToggles toggles;
+    private final MemberRoleCache memberRoles;
+    private final RoleGate roleGate;
 
     private final List<Permission> enabledPermissions = new ArrayList<>();
 
@@ -60,10 +62,15 @@ final class SlashCommandProcessor<S>
             final @NotNull SenderMapper<SlashSender, S> senderMapper,
             final @NotNull SenderValidator<S> senderValidator,
             final @NotNull ExecutionProvider syncExecutionProvider,
-            final @NotNull ExecutionProvider asyncExecutionProvider
+            final @NotNull ExecutionProvider asyncExecutionProvider,
+            final @NotNull GuildCommandToggles toggles,
+            final @NotNull MemberRoleCache memberRoles
     ) {
         super(baseCommand, registryContainer, senderMapper, senderValidator, syncExecutionProvider, asyncExecutionProvider);
         this.choiceRegistry = registryContainer.getChoiceRegistry();
+        this.toggles = toggles;
+        this.memberRoles = memberRoles;
+        this.roleGate = RoleGate.from(baseCommand.getClass());
 
     }
 
@@ -86,26 +93,38 @@ final class SlashCommandProcessor<S>
     }
 
     /**
-     * Gets the roles annotations from the class.
+     * Gets the per guild toggles the command checks before executing.
      *
-     * @param klass The class to get from.
-     * @return List with all the roles annotations.
+     * @return The {@link GuildCommandToggles}.
      */
-    private @NotNull List<@NotNull Roles> getRolesFromAnnotations(final @NotNull Class<?> klass) {
-        final Privileges privileges = klass.getAnnotation(Privileges.class);
-        if (privileges != null) return Arrays.asList(privileges.value());
+    public @NotNull GuildCommandToggles getToggles() {
+        return toggles;
+    }
 
-        final Roles roles = klass.getAnnotation(Roles.class);
-        if (roles != null) return Collections.singletonList(roles);
-        return Collections.emptyList();
+    /**
+     * Gets the cache used to look up the roles of the member using the command.
+     *
+     * @return The {@link MemberRoleCache}.
+     */
+    public @NotNull MemberRoleCache getMemberRoles() {
+        return memberRoles;
+    }
+
+    /**
+     * Gets the role restrictions from the command's role annotations.
+     *
+     * @return The {@link RoleGate}.
+     */
+    public @NotNull RoleGate getRoleGate() {
+        return roleGate;
     }
 
     @Override
-    protected @NotNull SlashSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull SlashSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new SlashSubCommandProcessor<>(
                 getBaseCommand(),
                 getName(),
-                method,
+                descriptor,
                 (SlashRegistryContainer<S>) getRegistryContainer(),
                 getSenderValidator()
         );
@@ -116,6 +135,6 @@ final class SlashCommandProcessor<S>
             final @NotNull SlashSubCommandProcessor<S> processor,
             final @NotNull ExecutionProvider executionProvider
     ) {
-        return new SlashSubCommand<>(processor, getName(), executionProvider);
+        return new SlashSubCommand<>(processor, getName(), executionProvider, toggles.ordinal(getName(), processor.getName()));
     }
 }
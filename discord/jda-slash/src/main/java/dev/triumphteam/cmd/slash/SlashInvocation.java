@@ -0,0 +1,101 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.slash;
+
+import dev.triumphteam.cmd.core.annotation.Default;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Everything about a single slash command interaction, carried from the listener down to the argument binding.
+ * Interaction data like attachments and resolved entities is read from here, so it lives exactly as long as the invocation.
+ * Created by the listener, {@link InvocationArgument}s read their options from it.
+ */
+public final class SlashInvocation {
+
+    private final SlashCommandInteractionEvent event;
+    private final long guildId;
+    private final Member member;
+    private final String subCommandName;
+
+    SlashInvocation(final @NotNull SlashCommandInteractionEvent event) {
+        this.event = event;
+
+        final Guild guild = event.getGuild();
+        this.guildId = guild == null ? 0L : guild.getIdLong();
+        this.member = event.getMember();
+
+        final String subCommandName = event.getSubcommandName();
+        this.subCommandName = subCommandName == null ? Default.DEFAULT_CMD_NAME : subCommandName;
+    }
+
+    /**
+     * Gets the id of the guild the command was used in.
+     *
+     * @return The guild id, or 0 outside guilds.
+     */
+    public long getGuildId() {
+        return guildId;
+    }
+
+    /**
+     * Gets the member that used the command.
+     *
+     * @return The {@link Member}, or null outside guilds.
+     */
+    public @Nullable Member getMember() {
+        return member;
+    }
+
+    /**
+     * Gets the name of the sub command used.
+     *
+     * @return The sub command name, or {@link Default#DEFAULT_CMD_NAME} if the command has no sub commands.
+     */
+    public @NotNull String getSubCommandName() {
+        return subCommandName;
+    }
+
+    /**
+     * Gets the option sent with the given name.
+     *
+     * @param name The option name.
+     * @return The {@link OptionMapping}, or null if it wasn't sent.
+     */
+    public @Nullable OptionMapping getOption(final @NotNull String name) {
+        return event.getOption(name);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SlashInvocation{" +
+                "command='" + event.getCommandPath() + '\'' +
+                ", guildId=" + guildId +
+                '}';
+    }
+}
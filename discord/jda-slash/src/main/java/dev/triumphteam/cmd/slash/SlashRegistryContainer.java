@@ -31,13 +31,8 @@ import org.jetbrains.annotations.NotNull;
 final class SlashRegistryContainer<S> extends RegistryContainer<S> {
 
     private final ChoiceRegistry choiceRegistry = new ChoiceRegistry();
-    private final AttachmentRegistry attachmentRegistry = new AttachmentRegistry();
 
     public @NotNull ChoiceRegistry getChoiceRegistry() {
         return choiceRegistry;
     }
-
-    public @NotNull AttachmentRegistry getAttachmentRegistry() {
-        return attachmentRegistry;
-    }
 }
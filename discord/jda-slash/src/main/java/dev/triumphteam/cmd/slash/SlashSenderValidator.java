@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.slash;
 import com.google.common.collect.ImmutableSet;
 import dev.triumphteam.cmd.core.SubCommand;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.sender.SenderCheck;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import dev.triumphteam.cmd.slash.sender.SlashSender;
 import org.jetbrains.annotations.NotNull;
@@ -53,4 +54,15 @@ final class SlashSenderValidator implements SenderValidator<SlashSender> {
     ) {
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull SenderCheck<SlashSender> prepare(
+            final @NotNull MessageRegistry<SlashSender> messageRegistry,
+            final @NotNull SubCommand<SlashSender> subCommand
+    ) {
+        return sender -> true;
+    }
 }
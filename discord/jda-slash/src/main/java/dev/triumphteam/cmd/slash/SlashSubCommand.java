@@ -24,15 +24,21 @@
 package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.AbstractSubCommand;
+import dev.triumphteam.cmd.core.BoundArguments;
+import dev.triumphteam.cmd.core.argument.AbstractInternalArgument;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.result.CommandResult;
+import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
 import dev.triumphteam.cmd.slash.choices.Choice;
 import dev.triumphteam.cmd.slash.choices.EmptyChoice;
 import dev.triumphteam.cmd.slash.util.JdaOptionUtil;
 import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,15 +48,88 @@ final class SlashSubCommand<S> extends AbstractSubCommand<S> {
 
     private final String description;
     private final List<Choice> choices;
+    private final int ordinal;
+    private final OptionBinding<S>[] bindings;
+    private final SuggestionIndex<S>[] suggestionIndexes;
 
+    private final CommandResult disabled;
+    private final CommandResult noPermission;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public SlashSubCommand(
             final @NotNull SlashSubCommandProcessor<S> processor,
             final @NotNull String parentName,
-            final @NotNull ExecutionProvider executionProvider
+            final @NotNull ExecutionProvider executionProvider,
+            final int ordinal
     ) {
         super(processor, parentName, executionProvider);
         this.description = processor.getDescription();
         this.choices = processor.getChoices();
+        this.ordinal = ordinal;
+        this.disabled = CommandResult.disabled(parentName, getName());
+        this.noPermission = CommandResult.noPermission(parentName, getName());
+
+        // Every option is bound to the parameter at its position, decided once here
+        final List<InternalArgument<S, ?>> arguments = getArguments();
+        this.bindings = new OptionBinding[arguments.size()];
+        this.suggestionIndexes = new SuggestionIndex[arguments.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            final InternalArgument<S, ?> argument = arguments.get(i);
+            bindings[i] = OptionBinding.of(argument);
+            if (isAutoCompleted(argument, i)) suggestionIndexes[i] = new SuggestionIndex<>(argument, parentName, getName());
+        }
+    }
+
+    /**
+     * Gets the autocomplete index of the option with the given name.
+     *
+     * @param optionName The option name.
+     * @return The {@link SuggestionIndex}, or null if the option isn't autocompleted.
+     */
+    @Nullable SuggestionIndex<S> getSuggestionIndex(final @NotNull String optionName) {
+        for (int i = 0; i < bindings.length; i++) {
+            if (bindings[i].getName().equals(optionName)) return suggestionIndexes[i];
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the ordinal used to toggle the sub command per guild.
+     *
+     * @return The sub command's ordinal.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Gets the result for when the command or this sub command is disabled in the guild.
+     *
+     * @return The disabled result.
+     */
+    @NotNull CommandResult getDisabledResult() {
+        return disabled;
+    }
+
+    /**
+     * Gets the result for when the member's roles don't allow the command.
+     *
+     * @return The no permission result.
+     */
+    @NotNull CommandResult getNoPermissionResult() {
+        return noPermission;
+    }
+
+    /**
+     * Executes the sub command, binding the options of the interaction directly to the command arguments.
+     *
+     * @param sender     The sender.
+     * @param invocation The invocation with the options.
+     * @return The result of the execution.
+     */
+    public @NotNull CommandResult execute(final @NotNull S sender, final @NotNull SlashInvocation invocation) {
+        return execute(sender, new OptionArguments(invocation));
     }
 
     public @NotNull String getDescription() {
@@ -71,7 +150,7 @@ final class SlashSubCommand<S> extends AbstractSubCommand<S> {
                     internalArgument.getDescription(),
                     !internalArgument.isOptional()
             );
-            // option.setAutoComplete(type.canSupportChoices());
+            option.setAutoComplete(suggestionIndexes[i] != null);
             options.add(option);
 
             final Choice suggestion = getChoice(i);
@@ -83,9 +162,59 @@ final class SlashSubCommand<S> extends AbstractSubCommand<S> {
         return options;
     }
 
+    /**
+     * Only string options without fixed choices can be autocompleted, and only if the argument has suggestions.
+     *
+     * @param argument The argument.
+     * @param index    The position of the argument.
+     * @return Whether the option is autocompleted.
+     */
+    private boolean isAutoCompleted(final @NotNull InternalArgument<S, ?> argument, final int index) {
+        if (JdaOptionUtil.fromType(argument.getType()) != OptionType.STRING) return false;
+        if (!(getChoice(index) instanceof EmptyChoice)) return false;
+        return argument instanceof AbstractInternalArgument && !(((AbstractInternalArgument<S, ?>) argument).getSuggestion() instanceof EmptySuggestion);
+    }
+
     private @NotNull Choice getChoice(final int index) {
         if (index >= choices.size()) return EmptyChoice.INSTANCE;
         return choices.get(index);
     }
 
+    /**
+     * The options of one interaction, bound through the sub command's bindings.
+     */
+    private final class OptionArguments implements BoundArguments<S> {
+
+        private final SlashInvocation invocation;
+
+        private OptionArguments(final @NotNull SlashInvocation invocation) {
+            this.invocation = invocation;
+        }
+
+        @Override
+        public @Nullable CommandResult bind(final @NotNull S sender, final @Nullable Object @NotNull [] invokeArguments) {
+            for (int i = 0; i < bindings.length; i++) {
+                final OptionBinding<S> binding = bindings[i];
+                final Object result = binding.bind(sender, invocation);
+
+                if (result == OptionBinding.MISSING) return getNotEnoughArguments();
+                if (result == OptionBinding.INVALID) return getInvalidArgument(i);
+
+                invokeArguments[i + 1] = result;
+            }
+
+            return null;
+        }
+
+        @Override
+        public @NotNull List<@NotNull String> getTyped() {
+            final List<String> typed = new ArrayList<>(bindings.length);
+            for (final OptionBinding<S> binding : bindings) {
+                final OptionMapping option = invocation.getOption(binding.getName());
+                typed.add(option == null ? "" : option.getAsString());
+            }
+
+            return typed;
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.exceptions.SubCommandRegistrationException;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
@@ -60,21 +61,19 @@ import static java.util.Collections.singletonList;
 final class SlashSubCommandProcessor<S> extends AbstractSubCommandProcessor<S> {
 
     private final ChoiceRegistry choiceRegistry;
-    private final AttachmentRegistry attachmentRegistry;
 
     private final List<Choice> choices;
 
     public SlashSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull SlashRegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator
     ) {
-        super(baseCommand, parentName, method, registryContainer, senderValidator);
+        super(baseCommand, parentName, descriptor, registryContainer, senderValidator);
         this.choiceRegistry = registryContainer.getChoiceRegistry();
-        this.attachmentRegistry = registryContainer.getAttachmentRegistry();
-        this.choices = extractChoices(method, baseCommand.getClass());
+        this.choices = extractChoices(getMethod(), baseCommand.getClass());
     }
 
     @Override
@@ -97,7 +96,6 @@ final class SlashSubCommandProcessor<S> extends AbstractSubCommandProcessor<S> {
     ) {
         if (type == Message.Attachment.class) {
             return new AttachmentArgument<>(
-                    ((SlashRegistryContainer<S>) getRegistryContainer()).getAttachmentRegistry(),
                     parameterName,
                     argumentDescription,
                     type,
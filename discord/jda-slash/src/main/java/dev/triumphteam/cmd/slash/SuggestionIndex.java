@@ -0,0 +1,272 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.slash;
+
+import dev.triumphteam.cmd.core.argument.InternalArgument;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import dev.triumphteam.cmd.core.util.LongObjectMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Autocomplete answers for one slash argument, served from a sorted index of its last known suggestions.
+ * Suggestions are cached per member and reloaded in the background, so a keystroke never waits on the resolver once something is known.
+ * The cache key is everything the resolver gets: the sender, mapped from that member, and a context with only the command names.
+ * The other options typed aren't passed, a cached answer couldn't depend on them.
+ *
+ * @param <S> The sender type.
+ */
+final class SuggestionIndex<S> {
+
+    /**
+     * The most choices Discord accepts in an autocomplete response.
+     */
+    static final int MAX_CHOICES = 25;
+    // Discord rejects choices with longer names
+    private static final int MAX_CHOICE_LENGTH = 100;
+
+    private static final long RELOAD_AFTER = TimeUnit.SECONDS.toNanos(30);
+    // Members that stopped typing are dropped after this, and once there are too many every idle one is dropped
+    private static final long EXPIRE_AFTER = TimeUnit.MINUTES.toNanos(5);
+    private static final int MAX_SOURCES = 1024;
+    // Discord drops autocomplete responses after 3 seconds, so the first load can't take longer than this
+    private static final long FIRST_LOAD_TIMEOUT_MILLIS = 2000;
+
+    private static final List<String> EMPTY_ARGUMENT = Collections.singletonList("");
+
+    private static final ScheduledExecutorService TIMEOUTS = Executors.newSingleThreadScheduledExecutor(daemon("triumph-cmd-autocomplete-timeout"));
+    // Resolvers may block, so they get their own threads instead of the common pool
+    private static final ThreadPoolExecutor LOADERS = new ThreadPoolExecutor(
+            4,
+            4,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            daemon("triumph-cmd-autocomplete")
+    );
+
+    static {
+        LOADERS.allowCoreThreadTimeOut(true);
+    }
+
+    private final InternalArgument<S, ?> argument;
+    private final SuggestionContext context;
+
+    private final LongObjectMap<LongObjectMap<Source>> sources = new LongObjectMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    SuggestionIndex(final @NotNull InternalArgument<S, ?> argument, final @NotNull String command, final @NotNull String subCommand) {
+        this.argument = argument;
+        this.context = new SuggestionContext(Collections.emptyList(), command, subCommand);
+    }
+
+    /**
+     * Gets up to {@link #MAX_CHOICES} suggestions starting with what's being typed.
+     * Answers right away from the last known suggestions, only the very first request of a member waits for the resolver.
+     * The sender is only mapped when the suggestions have to be loaded, if mapping fails nothing is suggested.
+     *
+     * @param sender  Maps the sender from the member, returns null or throws if it can't.
+     * @param guildId The id of the guild, or 0 outside guilds.
+     * @param userId  The id of the user typing.
+     * @param current What is being typed.
+     * @return The suggestions, completed in time for Discord's deadline.
+     */
+    @NotNull CompletableFuture<@NotNull List<@NotNull String>> suggest(
+            final @NotNull Supplier<@Nullable S> sender,
+            final long guildId,
+            final long userId,
+            final @NotNull String current
+    ) {
+        final long now = System.nanoTime();
+        final Source source = getSource(guildId, userId, now);
+        source.lastUsed = now;
+
+        final Snapshot snapshot = source.snapshot;
+        if (snapshot != null) {
+            if (now - snapshot.loadedAt > RELOAD_AFTER) source.load(sender);
+            return CompletableFuture.completedFuture(snapshot.lookup(current));
+        }
+
+        final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        source.load(sender).whenComplete((loaded, throwable) -> result.complete(loaded == null ? Collections.emptyList() : loaded.lookup(current)));
+        TIMEOUTS.schedule(() -> result.complete(Collections.emptyList()), FIRST_LOAD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    private @NotNull Source getSource(final long guildId, final long userId, final long now) {
+        final LongObjectMap<Source> members = sources.computeIfAbsent(guildId, ignored -> new LongObjectMap<>());
+        final Source cached = members.get(userId);
+        if (cached != null) return cached;
+
+        final Source created = new Source();
+        final Source existing = members.putIfAbsent(userId, created);
+        if (existing != null) return existing;
+
+        if (size.incrementAndGet() > MAX_SOURCES) sweep(now, 0L);
+        else if (now - lastSweep.get() > EXPIRE_AFTER) sweep(now, EXPIRE_AFTER);
+        return created;
+    }
+
+    /**
+     * Drops the members that haven't typed for longer than the given time.
+     * When called because the index is full the idle time is 0, so every member but the new ones is dropped.
+     *
+     * @param now      The current time.
+     * @param idleTime How long a member has to be idle to be dropped.
+     */
+    private void sweep(final long now, final long idleTime) {
+        final long last = lastSweep.get();
+        if (idleTime != 0L && !lastSweep.compareAndSet(last, now)) return;
+
+        sources.forEach((guildId, members) -> {
+            members.forEach((userId, source) -> {
+                if (source.lastUsed != 0L && now - source.lastUsed >= idleTime && members.remove(userId) != null) {
+                    size.decrementAndGet();
+                }
+            });
+            if (members.isEmpty()) sources.remove(guildId);
+        });
+    }
+
+    private static @NotNull ThreadFactory daemon(final @NotNull String name) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SuggestionIndex{" +
+                "argument=" + argument.getName() +
+                ", members=" + size.get() +
+                '}';
+    }
+
+    /**
+     * The suggestions of one member, with at most one load running at a time.
+     */
+    private final class Source {
+
+        private final AtomicReference<CompletableFuture<Snapshot>> loading = new AtomicReference<>();
+        private volatile Snapshot snapshot;
+        private volatile long lastUsed;
+
+        private @NotNull CompletableFuture<Snapshot> load(final @NotNull Supplier<@Nullable S> sender) {
+            final CompletableFuture<Snapshot> future = new CompletableFuture<>();
+            while (!loading.compareAndSet(null, future)) {
+                final CompletableFuture<Snapshot> running = loading.get();
+                if (running != null) return running;
+            }
+
+            // Mapped on the calling thread, like for commands, and treated as a failed load if it doesn't work
+            final S mappedSender;
+            try {
+                mappedSender = sender.get();
+                if (mappedSender == null) throw new IllegalStateException("Invalid sender. Sender mapper returned null");
+            } catch (final RuntimeException exception) {
+                loading.set(null);
+                future.completeExceptionally(exception);
+                return future;
+            }
+
+            CompletableFuture.supplyAsync(() -> Snapshot.of(argument.suggestions(mappedSender, EMPTY_ARGUMENT, context)), LOADERS).whenComplete((loaded, throwable) -> {
+                // A failed load keeps the last known suggestions
+                if (loaded != null) snapshot = loaded;
+                loading.set(null);
+
+                if (throwable != null) future.completeExceptionally(throwable);
+                else future.complete(loaded);
+            });
+
+            return future;
+        }
+    }
+
+    /**
+     * Suggestions sorted ignoring case, so the ones starting with a prefix are found with a binary search.
+     */
+    private static final class Snapshot {
+
+        private final String[] values;
+        private final long loadedAt;
+
+        private Snapshot(final @NotNull String @NotNull [] values) {
+            this.values = values;
+            this.loadedAt = System.nanoTime();
+        }
+
+        private static @NotNull Snapshot of(final @NotNull List<@NotNull String> suggestions) {
+            final String[] values = suggestions.stream()
+                    .filter(it -> !it.isEmpty() && it.length() <= MAX_CHOICE_LENGTH)
+                    .toArray(String[]::new);
+            Arrays.sort(values, String.CASE_INSENSITIVE_ORDER);
+
+            // Duplicates are next to each other once sorted, the ones differing only in case count as duplicates too
+            int size = 0;
+            for (final String value : values) {
+                if (size == 0 || String.CASE_INSENSITIVE_ORDER.compare(values[size - 1], value) != 0) values[size++] = value;
+            }
+
+            return new Snapshot(size == values.length ? values : Arrays.copyOf(values, size));
+        }
+
+        private @NotNull List<@NotNull String> lookup(final @NotNull String current) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (String.CASE_INSENSITIVE_ORDER.compare(values[middle], current) < 0) low = middle + 1;
+                else high = middle;
+            }
+
+            final List<String> result = new ArrayList<>(Math.min(MAX_CHOICES, values.length - low));
+            for (int i = low; i < values.length && result.size() < MAX_CHOICES; i++) {
+                final String value = values[i];
+                if (!value.regionMatches(true, 0, current, 0, current.length())) break;
+                result.add(value);
+            }
+
+            return result;
+        }
+    }
+}
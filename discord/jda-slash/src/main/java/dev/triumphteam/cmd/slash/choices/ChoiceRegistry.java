@@ -23,17 +23,16 @@
  */
 package dev.triumphteam.cmd.slash.choices;
 
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
 public final class ChoiceRegistry {
 
-    private final Map<ChoiceKey, Supplier<List<String>>> suggestions = new HashMap<>();
+    private final SnapshotMap<ChoiceKey, Supplier<List<String>>> suggestions = new SnapshotMap<>();
 
     public void register(final @NotNull ChoiceKey key, final @NotNull Supplier<@NotNull List<@NotNull String>> resolver) {
         suggestions.put(key, resolver);
@@ -40,6 +40,8 @@ import java.util.Collection;
 /**
  * Works like a shortcut for most things present on {@link SlashCommandInteractionEvent}.
  * Contains the more useful methods from it, but still allows you to get the original event if more is needed.
+ * The sender mapper also gets one while an option is autocompleted, that one only has the guild, channel, user and member,
+ * the event, the hook and replying throw {@link UnsupportedOperationException}.
  */
 public interface SlashSender {
 
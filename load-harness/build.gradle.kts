@@ -0,0 +1,12 @@
+plugins {
+    id("cmds.base-conventions")
+    application
+}
+
+dependencies {
+    implementation(project(":triumph-cmd-simple"))
+}
+
+application {
+    mainClass.set("dev.triumphteam.cmd.harness.LoadHarness")
+}
@@ -0,0 +1,102 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.harness;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted command mix, all the command lines are split once up front so picking one doesn't allocate.
+ */
+final class CommandMix {
+
+    private static final Map<String, String[]> COMMANDS = new HashMap<>();
+
+    static {
+        // Name -> sync line, async line (null when there is no async variant)
+        COMMANDS.put("ping", new String[]{"load ping", "load async-ping"});
+        COMMANDS.put("int", new String[]{"load int 10 20", "load async-int 10 20"});
+        COMMANDS.put("enum", new String[]{"load enum magenta", "load async-enum magenta"});
+        COMMANDS.put("list", new String[]{"load list 1 2 3 4 5", "load async-list 1 2 3 4 5"});
+        COMMANDS.put("flags", new String[]{"load flags -s --amount 5", "load async-flags -s --amount 5"});
+        COMMANDS.put("invalid", new String[]{"load int 10 abc", null});
+        COMMANDS.put("unknown", new String[]{"load unknown", null});
+    }
+
+    private final int[] cumulativeWeights;
+    private final List<List<String>> syncLines;
+    private final List<List<String>> asyncLines;
+    private final int totalWeight;
+    private final double asyncRatio;
+
+    CommandMix(final @NotNull Map<@NotNull String, @NotNull Integer> weights, final double asyncRatio) {
+        this.cumulativeWeights = new int[weights.size()];
+        this.syncLines = new ArrayList<>(weights.size());
+        this.asyncLines = new ArrayList<>(weights.size());
+        this.asyncRatio = asyncRatio;
+
+        int index = 0;
+        int total = 0;
+        for (final Map.Entry<String, Integer> entry : weights.entrySet()) {
+            final String[] lines = COMMANDS.get(entry.getKey());
+            if (lines == null) {
+                throw new IllegalArgumentException("Unknown command \"" + entry.getKey() + "\", available: " + COMMANDS.keySet());
+            }
+
+            total += entry.getValue();
+            cumulativeWeights[index] = total;
+            final List<String> syncLine = split(lines[0]);
+            syncLines.add(syncLine);
+            asyncLines.add(lines[1] == null ? syncLine : split(lines[1]));
+            index++;
+        }
+
+        if (total <= 0) throw new IllegalArgumentException("The command mix needs a positive total weight");
+        this.totalWeight = total;
+    }
+
+    /**
+     * Picks the next command line.
+     *
+     * @param random The random of the calling thread.
+     * @return The already split command line.
+     */
+    @NotNull List<@NotNull String> next(final @NotNull Random random) {
+        final int roll = random.nextInt(totalWeight);
+        int index = 0;
+        while (roll >= cumulativeWeights[index]) index++;
+        return random.nextDouble() < asyncRatio ? asyncLines.get(index) : syncLines.get(index);
+    }
+
+    private static @NotNull List<@NotNull String> split(final @NotNull String line) {
+        return Collections.unmodifiableList(Arrays.asList(line.split(" ")));
+    }
+}
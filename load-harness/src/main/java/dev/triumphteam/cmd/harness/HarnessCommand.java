@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.harness;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.Async;
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.flag.Flags;
+
+import java.util.List;
+
+/**
+ * Command driven by the harness, every sub command has a sync and an async variant.
+ */
+@Command("load")
+public final class HarnessCommand extends BaseCommand {
+
+    public enum Color {
+        RED, GREEN, BLUE, CYAN, MAGENTA, YELLOW, BLACK, WHITE
+    }
+
+    @SubCommand("ping")
+    public void ping(final SyntheticSender sender) {
+        sender.complete();
+    }
+
+    @Async
+    @SubCommand("async-ping")
+    public void asyncPing(final SyntheticSender sender) {
+        sender.complete();
+    }
+
+    @SubCommand("int")
+    public void integer(final SyntheticSender sender, final int first, final int second) {
+        sender.complete();
+    }
+
+    @Async
+    @SubCommand("async-int")
+    public void asyncInteger(final SyntheticSender sender, final int first, final int second) {
+        sender.complete();
+    }
+
+    @SubCommand("enum")
+    public void enumeration(final SyntheticSender sender, final Color color) {
+        sender.complete();
+    }
+
+    @Async
+    @SubCommand("async-enum")
+    public void asyncEnumeration(final SyntheticSender sender, final Color color) {
+        sender.complete();
+    }
+
+    @SubCommand("list")
+    public void list(final SyntheticSender sender, final List<Integer> values) {
+        sender.complete();
+    }
+
+    @Async
+    @SubCommand("async-list")
+    public void asyncList(final SyntheticSender sender, final List<Integer> values) {
+        sender.complete();
+    }
+
+    @SubCommand("flags")
+    @Flag(flag = "s", longFlag = "silent")
+    @Flag(flag = "a", longFlag = "amount", argument = int.class)
+    public void flags(final SyntheticSender sender, final Flags flags) {
+        sender.complete();
+    }
+
+    @Async
+    @SubCommand("async-flags")
+    @Flag(flag = "s", longFlag = "silent")
+    @Flag(flag = "a", longFlag = "amount", argument = int.class)
+    public void asyncFlags(final SyntheticSender sender, final Flags flags) {
+        sender.complete();
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.harness;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of a harness run, parsed from `--key=value` arguments.
+ */
+public final class HarnessConfig {
+
+    private static final String DEFAULT_MIX = "ping:40,int:20,enum:15,list:10,flags:10,invalid:5";
+
+    private final int senders;
+    private final long durationNanos;
+    private final long warmUpNanos;
+    private final long thinkTimeNanos;
+    private final long timeoutNanos;
+    private final double asyncRatio;
+    private final Map<String, Integer> mix;
+    private final boolean metrics;
+
+    private HarnessConfig(final @NotNull Map<String, String> options) {
+        this.senders = Integer.parseInt(options.getOrDefault("senders", "64"));
+        this.durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "30")));
+        this.warmUpNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.thinkTimeNanos = TimeUnit.MICROSECONDS.toNanos(Long.parseLong(options.getOrDefault("think-time", "1000")));
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(options.getOrDefault("timeout", "5000")));
+        this.asyncRatio = Double.parseDouble(options.getOrDefault("async-ratio", "0.2"));
+        this.mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        this.metrics = Boolean.parseBoolean(options.getOrDefault("metrics", "false"));
+
+        if (senders <= 0) throw new IllegalArgumentException("At least one sender is needed");
+        if (asyncRatio < 0 || asyncRatio > 1) throw new IllegalArgumentException("Async ratio must be between 0 and 1");
+    }
+
+    /**
+     * Parses the program arguments.
+     * Supported options are senders, duration (s), warmup (s), think-time (us), timeout (ms), async-ratio, mix and metrics.
+     *
+     * @param args The program arguments.
+     * @return The parsed config.
+     */
+    public static @NotNull HarnessConfig parse(final @NotNull String @NotNull [] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unknown argument \"" + arg + "\"");
+            final int split = arg.indexOf('=');
+            if (split == -1) {
+                options.put(arg.substring(2), "true");
+                continue;
+            }
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return new HarnessConfig(options);
+    }
+
+    private static @NotNull Map<String, Integer> parseMix(final @NotNull String mix) {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (final String entry : mix.split(",")) {
+            final String[] parts = entry.split(":");
+            if (parts.length != 2) throw new IllegalArgumentException("Invalid mix entry \"" + entry + "\", expected name:weight");
+            result.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    public int getSenders() {
+        return senders;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getWarmUpNanos() {
+        return warmUpNanos;
+    }
+
+    /**
+     * Gets the time between the intended start of two commands of the same sender.
+     * Latency is measured from the intended start, so a stalled command also counts against the ones that should have started while it was stalled.
+     *
+     * @return The think time in nanoseconds, 0 to issue commands back to back.
+     */
+    public long getThinkTimeNanos() {
+        return thinkTimeNanos;
+    }
+
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    public double getAsyncRatio() {
+        return asyncRatio;
+    }
+
+    public @NotNull Map<@NotNull String, @NotNull Integer> getMix() {
+        return mix;
+    }
+
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "HarnessConfig{" +
+                "senders=" + senders +
+                ", durationSeconds=" + TimeUnit.NANOSECONDS.toSeconds(durationNanos) +
+                ", warmUpSeconds=" + TimeUnit.NANOSECONDS.toSeconds(warmUpNanos) +
+                ", thinkTimeMicros=" + TimeUnit.NANOSECONDS.toMicros(thinkTimeNanos) +
+                ", asyncRatio=" + asyncRatio +
+                ", mix=" + mix +
+                ", metrics=" + metrics +
+                '}';
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.harness;
+
+import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.metrics.LatencyHistogram;
+import dev.triumphteam.cmd.core.metrics.StageSnapshot;
+import dev.triumphteam.cmd.core.sender.SenderMapper;
+import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load harness, drives a {@link SimpleCommandManager} with many concurrent {@link SyntheticSender}s.
+ * Each sender issues commands on a fixed schedule defined by the think time and latency is measured from the scheduled start,
+ * which corrects for coordinated omission: a stall delays every command that was due during it, not only the stalled one.
+ */
+public final class LoadHarness {
+
+    private final HarnessConfig config;
+    private final SimpleCommandManager<SyntheticSender> manager;
+    private final CommandMix mix;
+
+    // Measured from the intended start, coordinated omission corrected
+    private final LatencyHistogram latency = new LatencyHistogram();
+    // Measured from the actual start, what a naive client would report
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public LoadHarness(final @NotNull HarnessConfig config) {
+        this.config = config;
+        this.mix = new CommandMix(config.getMix(), config.getAsyncRatio());
+        this.manager = SimpleCommandManager.create(SenderMapper.defaultMapper(), new Validator());
+
+        if (config.isMetrics()) manager.setMetrics(CommandMetrics.create());
+
+        // Failed commands complete through their message
+        manager.registerMessage(MessageKey.UNKNOWN_COMMAND, (sender, context) -> sender.complete());
+        manager.registerMessage(MessageKey.TOO_MANY_ARGUMENTS, (sender, context) -> sender.complete());
+        manager.registerMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, (sender, context) -> sender.complete());
+        manager.registerMessage(MessageKey.INVALID_ARGUMENT, (sender, context) -> sender.complete());
+        manager.registerCommand(new HarnessCommand());
+    }
+
+    public static void main(final @NotNull String @NotNull [] args) throws InterruptedException {
+        final HarnessConfig config = HarnessConfig.parse(args);
+        System.out.println(config);
+        new LoadHarness(config).run();
+    }
+
+    /**
+     * Runs the load and prints the report once done.
+     *
+     * @throws InterruptedException If interrupted while waiting for the senders.
+     */
+    public void run() throws InterruptedException {
+        final CountDownLatch ready = new CountDownLatch(config.getSenders());
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[config.getSenders()];
+        final long[] startTime = new long[1];
+
+        for (int i = 0; i < threads.length; i++) {
+            final int id = i;
+            threads[i] = new Thread(() -> {
+                final SyntheticSender sender = new SyntheticSender(id, Thread.currentThread());
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                drive(sender, startTime[0]);
+            }, "load-sender-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+
+        ready.await();
+        startTime[0] = System.nanoTime();
+        start.countDown();
+
+        for (final Thread thread : threads) thread.join();
+
+        report();
+    }
+
+    private void drive(final @NotNull SyntheticSender sender, final long startTime) {
+        final Random random = ThreadLocalRandom.current();
+        final long thinkTime = config.getThinkTimeNanos();
+        final long measureFrom = startTime + config.getWarmUpNanos();
+        final long end = measureFrom + config.getDurationNanos();
+
+        // Spreads the senders over the first interval, so they don't all fire at once
+        long intendedStart = startTime + (thinkTime == 0 ? 0 : random.nextInt((int) Math.min(Integer.MAX_VALUE, thinkTime)));
+
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= end) return;
+
+            if (thinkTime == 0) {
+                intendedStart = now;
+            } else {
+                while (now < intendedStart) {
+                    LockSupport.parkNanos(intendedStart - now);
+                    now = System.nanoTime();
+                }
+            }
+
+            final List<String> line = mix.next(random);
+            sender.prepare();
+            final long actualStart = System.nanoTime();
+
+            try {
+                manager.executeCommand(sender, line);
+            } catch (final RuntimeException exception) {
+                if (actualStart >= measureFrom) errors.increment();
+                intendedStart += thinkTime;
+                continue;
+            }
+
+            // Everything that completes inside the measured window counts, even if it was scheduled during the warm-up
+            final long completedAt = sender.awaitCompletion(config.getTimeoutNanos());
+            if (completedAt < 0) {
+                if (actualStart >= measureFrom) timeouts.increment();
+            } else if (completedAt >= measureFrom && completedAt < end) {
+                latency.record(completedAt - intendedStart);
+                serviceTime.record(completedAt - actualStart);
+                completed.increment();
+            }
+
+            intendedStart += thinkTime;
+        }
+    }
+
+    private void report() {
+        final double seconds = config.getDurationNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("completed=%d errors=%d timeouts=%d throughput=%.1f ops/s%n", completed.sum(), errors.sum(), timeouts.sum(), completed.sum() / seconds);
+        printHistogram("latency (corrected)", latency);
+        printHistogram("service time", serviceTime);
+
+        if (!config.isMetrics()) return;
+        System.out.println("stages:");
+        for (final StageSnapshot stage : manager.getMetrics().snapshot().getStages()) {
+            System.out.printf(
+                    "  %-8s %-12s %-20s count=%-10d p50=%-8.1fus p99=%-8.1fus max=%.1fus%n",
+                    stage.getCommand(),
+                    stage.getSubCommand(),
+                    stage.getStage(),
+                    stage.getCount(),
+                    stage.getP50() / 1000.0,
+                    stage.getP99() / 1000.0,
+                    stage.getMax() / 1000.0
+            );
+        }
+    }
+
+    private static void printHistogram(final @NotNull String name, final @NotNull LatencyHistogram histogram) {
+        System.out.printf(
+                "%-20s p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n",
+                name,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMax() / 1000.0
+        );
+    }
+
+    private static final class Validator implements SenderValidator<SyntheticSender> {
+
+        @Override
+        public @NotNull Set<Class<? extends SyntheticSender>> getAllowedSenders() {
+            return Collections.singleton(SyntheticSender.class);
+        }
+
+        @Override
+        public boolean validate(
+                final @NotNull MessageRegistry<SyntheticSender> messageRegistry,
+                final @NotNull SubCommand<SyntheticSender> subCommand,
+                final @NotNull SyntheticSender sender
+        ) {
+            return true;
+        }
+    }
+}
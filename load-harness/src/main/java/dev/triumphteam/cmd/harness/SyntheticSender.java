@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.harness;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory sender, each one is driven by a single load thread with one command in flight at a time.
+ * A command is complete once its method ran or a message was sent to the sender, whichever thread that happens on.
+ */
+public final class SyntheticSender {
+
+    private final int id;
+    private final Thread owner;
+
+    private volatile boolean completed = false;
+    private volatile long completedAt = 0L;
+
+    public SyntheticSender(final int id, final @NotNull Thread owner) {
+        this.id = id;
+        this.owner = owner;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Resets the sender before issuing a new command.
+     */
+    void prepare() {
+        completed = false;
+    }
+
+    /**
+     * Marks the current command as complete, called by the commands and the message resolvers.
+     */
+    public void complete() {
+        completedAt = System.nanoTime();
+        completed = true;
+        LockSupport.unpark(owner);
+    }
+
+    /**
+     * Waits for the current command to complete.
+     *
+     * @param timeoutNanos How long to wait at most.
+     * @return The time the command completed at or -1 if it timed out.
+     */
+    long awaitCompletion(final long timeoutNanos) {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        while (!completed) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return -1;
+            LockSupport.parkNanos(this, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+        return completedAt;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SyntheticSender{" +
+                "id=" + id +
+                '}';
+    }
+}
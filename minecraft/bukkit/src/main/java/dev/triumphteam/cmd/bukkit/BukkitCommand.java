@@ -26,13 +26,17 @@ package dev.triumphteam.cmd.bukkit;
 import dev.triumphteam.cmd.bukkit.message.BukkitMessageKey;
 import dev.triumphteam.cmd.bukkit.message.NoPermissionMessageContext;
 import dev.triumphteam.cmd.core.Command;
-import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
-import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
-import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.metrics.DispatchStage;
+import dev.triumphteam.cmd.core.metrics.StageRecorder;
+import dev.triumphteam.cmd.core.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.result.CommandResult;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -44,52 +48,70 @@ import static java.util.Collections.emptyList;
 
 public final class BukkitCommand<S> extends org.bukkit.command.Command implements Command<S, BukkitSubCommand<S>> {
 
+    private final RegistryContainer<S> registryContainer;
     private final MessageRegistry<S> messageRegistry;
+    private final CommandResult unknownCommand;
 
     private final SenderMapper<CommandSender, S> senderMapper;
 
-    private final Map<String, BukkitSubCommand<S>> subCommands = new HashMap<>();
-    private final Map<String, BukkitSubCommand<S>> subCommandAliases = new HashMap<>();
+    private final StageRecorder stageRecorder;
+    private final boolean recordStages;
+
+    private final SnapshotMap<String, SubCommandHolder<S, BukkitSubCommand<S>>> subCommands = new SnapshotMap<>();
+    private final SnapshotMap<String, SubCommandHolder<S, BukkitSubCommand<S>>> subCommandAliases = new SnapshotMap<>();
+    // Known up front so completing sub command names never builds a lazy sub command.
+    private final SnapshotMap<SubCommandHolder<S, BukkitSubCommand<S>>, CommandPermission> permissions = new SnapshotMap<>();
 
     public BukkitCommand(final @NotNull String name, final @NotNull BukkitCommandProcessor<S> processor) {
         super(name);
 
         this.description = processor.getDescription();
-        this.messageRegistry = processor.getRegistryContainer().getMessageRegistry();
+        this.registryContainer = processor.getRegistryContainer();
+        this.messageRegistry = registryContainer.getMessageRegistry();
+        this.unknownCommand = CommandResult.unknownCommand(name);
         this.senderMapper = processor.getSenderMapper();
+
+        final CommandMetrics metrics = registryContainer.getMetrics();
+        this.recordStages = metrics.isEnabled();
+        this.stageRecorder = metrics.recorder(name, "");
     }
 
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull BukkitSubCommand<S> subCommand) {
+    public void addSubCommand(final @NotNull String name, final @NotNull SubCommandHolder<S, BukkitSubCommand<S>> subCommand) {
         subCommands.putIfAbsent(name, subCommand);
     }
 
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull BukkitSubCommand<S> subCommand) {
+    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SubCommandHolder<S, BukkitSubCommand<S>> subCommand) {
         subCommandAliases.putIfAbsent(alias, subCommand);
     }
 
+    /**
+     * Sets the permissions of the sub commands, read from their descriptors before any of them is built.
+     *
+     * @param permissions The permission of each sub command that has one.
+     */
+    void addPermissions(final @NotNull Map<SubCommandHolder<S, BukkitSubCommand<S>>, CommandPermission> permissions) {
+        permissions.forEach(this.permissions::put);
+    }
+
     /**
      * {@inheritDoc}
      * @throws CommandExecutionException If the sender mapper returns null.
      */
     @Override
     public boolean execute(final @NotNull CommandSender sender, final @NotNull String commandLabel, final @NotNull String @NotNull [] args) {
-        BukkitSubCommand<S> subCommand = getDefaultSubCommand();
-
         String subCommandName = "";
         if (args.length > 0) subCommandName = args[0].toLowerCase();
-        if (subCommand == null || subCommandExists(subCommandName)) {
-            subCommand = getSubCommand(subCommandName);
-        }
+        final BukkitSubCommand<S> subCommand = materialize(getHolderOrDefault(subCommandName));
 
-        final S mappedSender = senderMapper.map(sender);
+        final S mappedSender = mapSender(sender);
         if (mappedSender == null) {
-            throw new CommandExecutionException("Invalid sender. Sender mapper returned null");
+            throw new CommandExecutionException("Invalid sender. Sender mapper returned null", registryContainer.isDebug());
         }
 
         if (subCommand == null || (args.length > 0 && subCommand.isDefault() && !subCommand.hasArguments())) {
-            messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, mappedSender, new DefaultMessageContext(getName(), subCommandName));
+            registryContainer.getResultHandler().handle(mappedSender, Arrays.asList(args), unknownCommand);
             return true;
         }
 
@@ -108,29 +130,27 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
     @Override
     public @NotNull List<@NotNull String> tabComplete(final @NotNull CommandSender sender, final @NotNull String alias, final @NotNull String @NotNull [] args) throws IllegalArgumentException {
         if (args.length == 0) return emptyList();
-        BukkitSubCommand<S> subCommand = getDefaultSubCommand();
-
         final String arg = args[0].toLowerCase();
 
-        if (args.length == 1 && (subCommand == null || !subCommand.hasArguments())) {
-            return subCommands.entrySet().stream()
-                    .filter(it -> !it.getValue().isDefault())
-                    .filter(it -> it.getKey().startsWith(arg))
-                    .filter(it -> {
-                        final CommandPermission permission = it.getValue().getPermission();
-                        return CommandPermission.hasPermission(sender, permission);
-                    })
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
+        if (args.length == 1) {
+            final BukkitSubCommand<S> defaultSubCommand = materialize(subCommands.get(Default.DEFAULT_CMD_NAME));
+            if (defaultSubCommand == null || !defaultSubCommand.hasArguments()) {
+                return subCommands.snapshot().entrySet().stream()
+                        .filter(it -> !it.getKey().equals(Default.DEFAULT_CMD_NAME))
+                        .filter(it -> it.getKey().startsWith(arg))
+                        .filter(it -> CommandPermission.hasPermission(sender, permissions.get(it.getValue())))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+            }
         }
 
-        if (subCommandExists(arg)) subCommand = getSubCommand(arg);
+        final BukkitSubCommand<S> subCommand = materialize(getHolderOrDefault(arg));
         if (subCommand == null) return emptyList();
 
         final CommandPermission permission = subCommand.getPermission();
         if (!CommandPermission.hasPermission(sender, permission)) return emptyList();
 
-        final S mappedSender = senderMapper.map(sender);
+        final S mappedSender = mapSender(sender);
         if (mappedSender == null) {
             return emptyList();
         }
@@ -140,33 +160,33 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
     }
 
     /**
-     * Gets a default command if present.
+     * Maps the Bukkit sender into the custom sender, recording how long it took.
      *
-     * @return A default SubCommand.
+     * @param sender The Bukkit sender.
+     * @return The mapped sender or null if the mapper returned null.
      */
-    private @Nullable BukkitSubCommand<S> getDefaultSubCommand() {
-        return subCommands.get(Default.DEFAULT_CMD_NAME);
+    private @Nullable S mapSender(final @NotNull CommandSender sender) {
+        final long start = recordStages ? System.nanoTime() : 0L;
+        final S mappedSender = senderMapper.map(sender);
+        if (recordStages) stageRecorder.record(DispatchStage.SENDER_MAPPING, System.nanoTime() - start);
+        return mappedSender;
     }
 
     /**
-     * Used in order to search for the given {@link SubCommand<CommandSender>} in the {@link #subCommandAliases}
+     * Gets the holder of the sub command with the given name or alias, falling back to the default one.
+     * Nothing is built here, so looking up a named sub command never builds the default one.
      *
-     * @param key the String to look for the {@link SubCommand<CommandSender>}
-     * @return the {@link SubCommand<CommandSender>} for the particular key or NULL
+     * @param key The name or alias typed.
+     * @return The matching holder, the default one or null if there's neither.
      */
-    private @Nullable BukkitSubCommand<S> getSubCommand(final @NotNull String key) {
-        final BukkitSubCommand<S> subCommand = subCommands.get(key);
-        if (subCommand != null) return subCommand;
-        return subCommandAliases.get(key);
+    private @Nullable SubCommandHolder<S, BukkitSubCommand<S>> getHolderOrDefault(final @NotNull String key) {
+        SubCommandHolder<S, BukkitSubCommand<S>> holder = subCommands.get(key);
+        if (holder == null) holder = subCommandAliases.get(key);
+        if (holder == null) holder = subCommands.get(Default.DEFAULT_CMD_NAME);
+        return holder;
     }
 
-    /**
-     * Checks if a SubCommand with the specified key exists.
-     *
-     * @param key the Key to check for
-     * @return whether a SubCommand with that key exists
-     */
-    private boolean subCommandExists(final @NotNull String key) {
-        return subCommands.containsKey(key) || subCommandAliases.containsKey(key);
+    private @Nullable BukkitSubCommand<S> materialize(final @Nullable SubCommandHolder<S, BukkitSubCommand<S>> holder) {
+        return holder == null ? null : holder.get();
     }
 }
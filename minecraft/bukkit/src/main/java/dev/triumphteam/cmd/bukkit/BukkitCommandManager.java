@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.bukkit;
 import dev.triumphteam.cmd.bukkit.message.BukkitMessageKey;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
@@ -33,6 +34,7 @@ import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Server;
@@ -56,7 +58,7 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
     private final Plugin plugin;
     private final RegistryContainer<S> registryContainer = new RegistryContainer<>();
 
-    private final Map<String, BukkitCommand<S>> commands = new HashMap<>();
+    private final SnapshotMap<String, BukkitCommand<S>> commands = new SnapshotMap<>();
 
     private final ExecutionProvider syncExecutionProvider = new SyncExecutionProvider();
     private final ExecutionProvider asyncExecutionProvider;
@@ -125,6 +127,15 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
 
     @Override
     public void registerCommand(final @NotNull BaseCommand baseCommand) {
+        prepareCommand(baseCommand).run();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registering into the command map and the permissions is left to the returned task, which must run on the main thread.
+     */
+    @Override
+    protected @NotNull Runnable prepareCommand(final @NotNull BaseCommand baseCommand) {
         final BukkitCommandProcessor<S> processor = new BukkitCommandProcessor<>(
                 baseCommand,
                 registryContainer,
@@ -135,15 +146,26 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
                 basePermission
         );
 
-        final BukkitCommand<S> command = commands.computeIfAbsent(processor.getName(), ignored -> createAndRegisterCommand(processor.getName(), processor));
-        // Adding sub commands.
-        processor.addSubCommands(command);
+        // Built once and shared by the command and all of its aliases
+        final List<SubCommandHolder<S, BukkitSubCommand<S>>> subCommands = processor.createSubCommands();
+        // Read from the descriptors, so lazy sub commands get theirs registered here on the main thread too
+        final Map<SubCommandHolder<S, BukkitSubCommand<S>>, CommandPermission> permissions = processor.getPermissions(subCommands);
+
+        return () -> {
+            permissions.values().forEach(CommandPermission::register);
 
-        processor.getAlias().forEach(it -> {
-            final BukkitCommand<S> aliasCommand = commands.computeIfAbsent(it, ignored -> createAndRegisterCommand(it, processor));
+            final BukkitCommand<S> command = commands.computeIfAbsent(processor.getName(), ignored -> createAndRegisterCommand(processor.getName(), processor));
             // Adding sub commands.
-            processor.addSubCommands(aliasCommand);
-        });
+            processor.addSubCommands(command, subCommands);
+            command.addPermissions(permissions);
+
+            processor.getAlias().forEach(it -> {
+                final BukkitCommand<S> aliasCommand = commands.computeIfAbsent(it, ignored -> createAndRegisterCommand(it, processor));
+                // Adding sub commands.
+                processor.addSubCommands(aliasCommand, subCommands);
+                aliasCommand.addPermissions(permissions);
+            });
+        };
     }
 
     @Override
@@ -25,6 +25,8 @@ package dev.triumphteam.cmd.bukkit;
 
 import dev.triumphteam.cmd.bukkit.annotation.Permission;
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.SubCommandHolder;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
@@ -35,7 +37,6 @@ import org.bukkit.permissions.PermissionDefault;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -69,14 +70,14 @@ final class BukkitCommandProcessor<S> extends AbstractCommandProcessor<CommandSe
     }
 
     @Override
-    protected @NotNull BukkitSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull BukkitSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new BukkitSubCommandProcessor<>(
                 getBaseCommand(),
                 getName(),
-                method,
+                descriptor,
                 getRegistryContainer(),
                 getSenderValidator(),
-                basePermission
+                getPermission(descriptor)
         );
     }
 
@@ -88,6 +89,41 @@ final class BukkitCommandProcessor<S> extends AbstractCommandProcessor<CommandSe
         return new BukkitSubCommand<>(processor, getName(), executionProvider);
     }
 
+    /**
+     * Reads the permission of each sub command from its descriptor, without building any of them.
+     *
+     * @param subCommands The sub commands created by {@link #createSubCommands()}.
+     * @return The permission of each sub command that has one.
+     */
+    @NotNull Map<SubCommandHolder<S, BukkitSubCommand<S>>, CommandPermission> getPermissions(
+            final @NotNull List<@NotNull SubCommandHolder<S, BukkitSubCommand<S>>> subCommands
+    ) {
+        final Map<SubCommandHolder<S, BukkitSubCommand<S>>, CommandPermission> permissions = new HashMap<>();
+        for (final SubCommandHolder<S, BukkitSubCommand<S>> subCommand : subCommands) {
+            final CommandPermission permission = getPermission(subCommand.getDescriptor());
+            if (permission != null) permissions.put(subCommand, permission);
+        }
+        return permissions;
+    }
+
+    /**
+     * Gets the permission of a sub command, its own {@link Permission} nested in the command's one.
+     *
+     * @param descriptor The descriptor of the sub command.
+     * @return The permission or null if neither the sub command nor the command has one.
+     */
+    private @Nullable CommandPermission getPermission(final @NotNull SubCommandDescriptor descriptor) {
+        final Permission annotation = descriptor.getMethod(getBaseCommand().getClass()).getAnnotation(Permission.class);
+        if (annotation == null) return basePermission;
+
+        return createPermission(
+                basePermission,
+                Arrays.stream(annotation.value()).collect(Collectors.toList()),
+                annotation.description(),
+                annotation.def()
+        );
+    }
+
     static CommandPermission createPermission(
             final @Nullable CommandPermission parent,
             final @NotNull List<@NotNull String> nodes,
@@ -28,6 +28,7 @@ import dev.triumphteam.cmd.bukkit.message.BukkitMessageKey;
 import dev.triumphteam.cmd.core.SubCommand;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.sender.SenderCheck;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
@@ -77,4 +78,35 @@ class BukkitSenderValidator implements SenderValidator<CommandSender> {
 
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     * The check only depends on the declared sender type, so it's picked once per sub command.
+     */
+    @Override
+    public @NotNull SenderCheck<CommandSender> prepare(
+            final @NotNull MessageRegistry<CommandSender> messageRegistry,
+            final @NotNull SubCommand<CommandSender> subCommand
+    ) {
+        final Class<? extends CommandSender> senderClass = subCommand.getSenderType();
+        final DefaultMessageContext context = new DefaultMessageContext(subCommand.getParentName(), subCommand.getName());
+
+        if (Player.class.isAssignableFrom(senderClass)) {
+            return sender -> {
+                if (sender instanceof Player) return true;
+                messageRegistry.sendMessage(BukkitMessageKey.PLAYER_ONLY, sender, context);
+                return false;
+            };
+        }
+
+        if (ConsoleCommandSender.class.isAssignableFrom(senderClass)) {
+            return sender -> {
+                if (sender instanceof ConsoleCommandSender) return true;
+                messageRegistry.sendMessage(BukkitMessageKey.CONSOLE_ONLY, sender, context);
+                return false;
+            };
+        }
+
+        return sender -> true;
+    }
 }
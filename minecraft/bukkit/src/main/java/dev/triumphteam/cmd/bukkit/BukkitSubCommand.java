@@ -27,6 +27,9 @@ import dev.triumphteam.cmd.core.AbstractSubCommand;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.jfr.CommandEvent;
+import dev.triumphteam.cmd.core.jfr.CommandEvents;
+import dev.triumphteam.cmd.core.metrics.DispatchStage;
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -42,8 +45,6 @@ public final class BukkitSubCommand<S> extends AbstractSubCommand<S> {
     public BukkitSubCommand(final @NotNull BukkitSubCommandProcessor<S> processor, final @NotNull String parentName, final @NotNull ExecutionProvider executionProvider) {
         super(processor, parentName, executionProvider);
         this.permission = processor.getPermission();
-
-        if (this.permission != null) this.permission.register();
     }
 
     public @NotNull List<@NotNull String> getSuggestions(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
@@ -59,7 +60,14 @@ public final class BukkitSubCommand<S> extends AbstractSubCommand<S> {
         }
 
         final SuggestionContext context = new SuggestionContext(args, getParentName(), getName());
-        return internalArgument.suggestions(sender, trimmed, context);
+        final CommandEvent suggestionEvent = CommandEvents.suggestion(getParentName(), getName(), getSenderType());
+        final long start = isRecordingStages() ? System.nanoTime() : 0L;
+
+        final List<String> suggestions = internalArgument.suggestions(sender, trimmed, context);
+
+        if (isRecordingStages()) getStageRecorder().record(DispatchStage.SUGGESTION, System.nanoTime() - start);
+        if (suggestionEvent != null) suggestionEvent.commit();
+        return suggestions;
     }
 
     /**
@@ -23,18 +23,14 @@
  */
 package dev.triumphteam.cmd.bukkit;
 
-import dev.triumphteam.cmd.bukkit.annotation.Permission;
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 final class BukkitSubCommandProcessor<S> extends AbstractSubCommandProcessor<S> {
 
     private final CommandPermission permission;
@@ -42,25 +38,13 @@ final class BukkitSubCommandProcessor<S> extends AbstractSubCommandProcessor<S>
     public BukkitSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull RegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator,
-            final @Nullable CommandPermission basePermission
+            final @Nullable CommandPermission permission
     ) {
-        super(baseCommand, parentName, method, registryContainer, senderValidator);
-
-        final Permission annotation = method.getAnnotation(Permission.class);
-        if (annotation == null) {
-            this.permission = basePermission;
-            return;
-        }
-
-        permission = BukkitCommandProcessor.createPermission(
-                basePermission,
-                Arrays.stream(annotation.value()).collect(Collectors.toList()),
-                annotation.description(),
-                annotation.def()
-        );
+        super(baseCommand, parentName, descriptor, registryContainer, senderValidator);
+        this.permission = permission;
     }
 
     public @Nullable CommandPermission getPermission() {
@@ -0,0 +1,9 @@
+plugins {
+    id("cmds.base-conventions")
+    id("cmds.library-conventions")
+}
+
+// Optional annotation processor, added with `annotationProcessor(...)` next to the platform dependency.
+dependencies {
+    implementation(project(":triumph-cmd-core"))
+}
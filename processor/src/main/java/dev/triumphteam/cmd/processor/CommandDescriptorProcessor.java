@@ -0,0 +1,142 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.processor;
+
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a <code>CommandDescriptor</code> for every class declaring sub commands.
+ * The core picks these up at registration, so the annotations don't have to be read reflectively
+ * and the sub command methods are called directly instead of through {@link java.lang.reflect.Method#invoke}.
+ */
+@SupportedAnnotationTypes({
+        "dev.triumphteam.cmd.core.annotation.SubCommand",
+        "dev.triumphteam.cmd.core.annotation.Default"
+})
+public final class CommandDescriptorProcessor extends AbstractProcessor {
+
+    private static final String BASE_COMMAND = "dev.triumphteam.cmd.core.BaseCommand";
+
+    @Override
+    public @NotNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final @NotNull Set<? extends TypeElement> annotations, final @NotNull RoundEnvironment roundEnv) {
+        final Set<TypeElement> commandTypes = new LinkedHashSet<>();
+        collectCommandTypes(roundEnv.getElementsAnnotatedWith(SubCommand.class), commandTypes);
+        collectCommandTypes(roundEnv.getElementsAnnotatedWith(Default.class), commandTypes);
+
+        for (final TypeElement commandType : commandTypes) {
+            if (!isValidCommandType(commandType)) continue;
+
+            // Enclosed elements keep the source order, which makes the output stable between builds.
+            final List<ExecutableElement> methods = new ArrayList<>();
+            for (final Element enclosed : commandType.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.METHOD) continue;
+                if (enclosed.getAnnotation(SubCommand.class) == null && enclosed.getAnnotation(Default.class) == null) continue;
+
+                if (enclosed.getModifiers().contains(Modifier.PRIVATE)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Private sub command methods are ignored", enclosed);
+                    continue;
+                }
+
+                methods.add((ExecutableElement) enclosed);
+            }
+
+            write(commandType, methods);
+        }
+
+        return false;
+    }
+
+    private void collectCommandTypes(final @NotNull Set<? extends Element> elements, final @NotNull Set<TypeElement> commandTypes) {
+        for (final Element element : elements) {
+            if (element.getKind() != ElementKind.METHOD) continue;
+            commandTypes.add((TypeElement) element.getEnclosingElement());
+        }
+    }
+
+    private boolean isValidCommandType(final @NotNull TypeElement commandType) {
+        final TypeElement baseCommand = processingEnv.getElementUtils().getTypeElement(BASE_COMMAND);
+        final TypeMirror type = processingEnv.getTypeUtils().erasure(commandType.asType());
+        if (baseCommand == null || !processingEnv.getTypeUtils().isAssignable(type, baseCommand.asType())) {
+            error("Classes declaring sub commands must extend " + BASE_COMMAND, commandType);
+            return false;
+        }
+
+        // The descriptor lives next to the command, so the command must be reachable from its package.
+        Element current = commandType;
+        while (current instanceof TypeElement) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                error("Command classes must not be private", commandType);
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private void write(final @NotNull TypeElement commandType, final @NotNull List<@NotNull ExecutableElement> methods) {
+        final DescriptorWriter writer = new DescriptorWriter(processingEnv, commandType);
+        final String source = writer.write(methods);
+        if (source == null) return;
+
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(writer.getQualifiedName(), commandType);
+            try (final Writer out = file.openWriter()) {
+                out.write(source);
+            }
+        } catch (final IOException exception) {
+            error("Could not write the command descriptor: " + exception.getMessage(), commandType);
+        }
+    }
+
+    private void error(final @NotNull String message, final @NotNull Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,407 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.processor;
+
+import dev.triumphteam.cmd.core.annotation.ArgDescriptions;
+import dev.triumphteam.cmd.core.annotation.ArgName;
+import dev.triumphteam.cmd.core.annotation.Async;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.Description;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.NamedArguments;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.Requirement;
+import dev.triumphteam.cmd.core.annotation.Split;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.annotation.Suggestion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source of a single generated command descriptor.
+ */
+final class DescriptorWriter {
+
+    private static final String SUFFIX = "$$TriumphDescriptor";
+    private static final String DESCRIPTOR_PACKAGE = "dev.triumphteam.cmd.core.descriptor";
+    private static final String FLAGS = "dev.triumphteam.cmd.core.flag.Flags";
+    private static final String ARGUMENTS = "dev.triumphteam.cmd.core.argument.named.Arguments";
+
+    // Same types CollectionType accepts, those get their element type extracted.
+    private static final Set<String> COLLECTIONS = new HashSet<>(Arrays.asList(
+            "java.util.List",
+            "java.util.ArrayList",
+            "java.util.Collection",
+            "java.util.Set",
+            "java.util.HashSet",
+            "java.util.EnumSet",
+            "java.util.Deque",
+            "java.util.ArrayDeque",
+            "java.util.Queue"
+    ));
+
+    private final ProcessingEnvironment env;
+    private final TypeElement commandType;
+    private final String packageName;
+    private final String simpleName;
+
+    private boolean failed = false;
+
+    DescriptorWriter(final @NotNull ProcessingEnvironment env, final @NotNull TypeElement commandType) {
+        this.env = env;
+        this.commandType = commandType;
+        this.packageName = env.getElementUtils().getPackageOf(commandType).getQualifiedName().toString();
+
+        final String binaryName = env.getElementUtils().getBinaryName(commandType).toString();
+        this.simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+    }
+
+    /**
+     * Gets the fully qualified name of the generated class.
+     *
+     * @return The generated class name.
+     */
+    @NotNull String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    /**
+     * Writes the descriptor source for the given sub command methods.
+     *
+     * @param methods The sub command methods, in declaration order.
+     * @return The source, or null if any of the methods is invalid.
+     */
+    @Nullable String write(final @NotNull List<@NotNull ExecutableElement> methods) {
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+
+        source.append("// Generated by triumph-cmd-processor, do not edit.\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(DESCRIPTOR_PACKAGE).append(".CommandDescriptor {\n\n")
+                .append("    private final java.util.List<").append(DESCRIPTOR_PACKAGE).append(".SubCommandDescriptor> subCommands = ")
+                .append("java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+
+        for (int i = 0; i < methods.size(); i++) {
+            source.append(i == 0 ? "\n" : ",\n");
+            writeSubCommand(source, methods.get(i));
+        }
+
+        source.append("\n    ));\n\n")
+                .append("    @Override\n")
+                .append("    public Class<? extends dev.triumphteam.cmd.core.BaseCommand> getCommandClass() {\n")
+                .append("        return ").append(commandType.getQualifiedName()).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<").append(DESCRIPTOR_PACKAGE).append(".SubCommandDescriptor> getSubCommands() {\n")
+                .append("        return subCommands;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        return failed ? null : source.toString();
+    }
+
+    private void writeSubCommand(final @NotNull StringBuilder source, final @NotNull ExecutableElement method) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.isEmpty()) {
+            error("Sub command methods must have the sender as their first parameter", method);
+            return;
+        }
+
+        final String parameterTypes = parameters.stream()
+                .map(parameter -> render(parameter.asType()) + ".class")
+                .collect(Collectors.joining(", "));
+
+        source.append("            ").append(DESCRIPTOR_PACKAGE).append(".SubCommandDescriptor.builder(")
+                .append(literal(method.getSimpleName().toString())).append(", ").append(parameterTypes).append(")\n");
+
+        final Default defaultAnnotation = method.getAnnotation(Default.class);
+        if (defaultAnnotation != null) {
+            call(source, "name", literal(Default.DEFAULT_CMD_NAME));
+            call(source, "setDefault", "");
+            if (defaultAnnotation.alias().length > 0) call(source, "alias", literals(lowerCase(defaultAnnotation.alias())));
+        } else {
+            final SubCommand subCommand = method.getAnnotation(SubCommand.class);
+            final String name = subCommand.value().toLowerCase();
+            if (name.isEmpty()) error("@" + SubCommand.class.getSimpleName() + " name must not be empty", method);
+
+            call(source, "name", literal(name));
+            if (subCommand.alias().length > 0) call(source, "alias", literals(lowerCase(subCommand.alias())));
+        }
+
+        if (method.getAnnotation(Async.class) != null) call(source, "async", "");
+
+        final Description description = method.getAnnotation(Description.class);
+        if (description != null) call(source, "description", literal(description.value()));
+
+        final ArgDescriptions argDescriptions = method.getAnnotation(ArgDescriptions.class);
+        if (argDescriptions != null && argDescriptions.value().length > 0) {
+            call(source, "argDescriptions", literals(argDescriptions.value()));
+        }
+
+        final Flag[] flags = method.getAnnotationsByType(Flag.class);
+        for (final Flag flag : flags) {
+            if (flag.longFlag().contains(" ")) {
+                error("@" + Flag.class.getSimpleName() + "'s identifiers must not contain spaces", method);
+            }
+
+            call(source, "flag", DESCRIPTOR_PACKAGE + ".FlagDescriptor.of(" +
+                    literal(flag.flag()) + ", " +
+                    literal(flag.longFlag()) + ", " +
+                    render(getFlagArgument(flag)) + ".class, " +
+                    literal(flag.suggestion()) + ")");
+        }
+
+        for (final Requirement requirement : method.getAnnotationsByType(Requirement.class)) {
+            call(source, "requirement", DESCRIPTOR_PACKAGE + ".RequirementDescriptor.of(" +
+                    literal(requirement.value()) + ", " +
+                    literal(requirement.messageKey()) + ", " +
+                    requirement.invert() + ")");
+        }
+
+        final Suggestion[] suggestions = method.getAnnotationsByType(Suggestion.class);
+        if (suggestions.length > 0) {
+            call(source, "suggestions", literals(Arrays.stream(suggestions).map(Suggestion::value).toArray(String[]::new)));
+        }
+
+        final NamedArguments namedArguments = method.getAnnotation(NamedArguments.class);
+        if (namedArguments != null) call(source, "namedArguments", literal(namedArguments.value()));
+
+        for (int i = 1; i < parameters.size(); i++) {
+            final VariableElement parameter = parameters.get(i);
+            final String type = erasedName(parameter.asType());
+
+            if (type.equals(FLAGS) && flags.length == 0) {
+                error("Flags argument detected but no flag annotation declared", parameter);
+            }
+
+            if (type.equals(ARGUMENTS) && namedArguments == null) {
+                error("Named arguments argument detected but no named arguments annotation declared", parameter);
+            }
+
+            call(source, "argument", argument(parameter));
+        }
+
+        call(source, "invoker", invoker(method));
+        source.append("                    .build()");
+    }
+
+    private @NotNull String argument(final @NotNull VariableElement parameter) {
+        final TypeMirror type = parameter.asType();
+
+        final ArgName argName = parameter.getAnnotation(ArgName.class);
+        final String name = argName != null ? argName.value() : lowerHyphen(parameter.getSimpleName().toString());
+
+        final StringBuilder argument = new StringBuilder()
+                .append(DESCRIPTOR_PACKAGE).append(".ArgumentDescriptor.builder(")
+                .append(render(type)).append(".class, ")
+                .append(literal(name)).append(")");
+
+        final TypeMirror elementType = getElementType(parameter);
+        if (elementType != null) argument.append(".elementType(").append(render(elementType)).append(".class)");
+
+        final Description description = parameter.getAnnotation(Description.class);
+        if (description != null) argument.append(".description(").append(literal(description.value())).append(")");
+
+        if (parameter.getAnnotation(Optional.class) != null) argument.append(".optional()");
+
+        final Split split = parameter.getAnnotation(Split.class);
+        if (split != null) argument.append(".split(").append(literal(split.value())).append(")");
+
+        final Join join = parameter.getAnnotation(Join.class);
+        if (join != null) argument.append(".join(").append(literal(join.value())).append(")");
+
+        final Suggestion suggestion = parameter.getAnnotation(Suggestion.class);
+        if (suggestion != null) argument.append(".suggestion(").append(literal(suggestion.value())).append(")");
+
+        return argument.append(".build()").toString();
+    }
+
+    /**
+     * Creates the direct-call invoker, casting every argument to the erased parameter type.
+     */
+    private @NotNull String invoker(final @NotNull ExecutableElement method) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final StringBuilder call = new StringBuilder();
+
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            call.append(commandType.getQualifiedName());
+        } else {
+            call.append("((").append(commandType.getQualifiedName()).append(") command)");
+        }
+
+        call.append('.').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) call.append(", ");
+            call.append('(').append(castType(parameters.get(i).asType())).append(") arguments[").append(i).append(']');
+        }
+        call.append(')');
+
+        final boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+        return "(command, arguments) -> {\n" +
+                "                        " + (isVoid ? call + ";\n                        return null;" : "return " + call + ";") + "\n" +
+                "                    }";
+    }
+
+    private @Nullable TypeMirror getElementType(final @NotNull VariableElement parameter) {
+        final TypeMirror type = parameter.asType();
+        if (type.getKind() == TypeKind.ARRAY) return ((ArrayType) type).getComponentType();
+        if (type.getKind() != TypeKind.DECLARED || !COLLECTIONS.contains(erasedName(type))) return null;
+
+        final List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        if (typeArguments.size() != 1) {
+            error("Unsupported collection type \"" + erasedName(type) + "\"", parameter);
+            return null;
+        }
+
+        final TypeMirror typeArgument = typeArguments.get(0);
+        if (typeArgument.getKind() != TypeKind.WILDCARD) return typeArgument;
+
+        final TypeMirror bound = ((WildcardType) typeArgument).getExtendsBound();
+        return bound != null ? bound : env.getElementUtils().getTypeElement("java.lang.Object").asType();
+    }
+
+    private @NotNull TypeMirror getFlagArgument(final @NotNull Flag flag) {
+        try {
+            flag.argument();
+            throw new IllegalStateException("Class values are not available during annotation processing");
+        } catch (final MirroredTypeException exception) {
+            return exception.getTypeMirror();
+        }
+    }
+
+    /**
+     * Renders the erased type as it'd be written in source, without any type annotations.
+     */
+    private @NotNull String render(final @NotNull TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return render(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR:
+            case WILDCARD:
+            case INTERSECTION:
+                return render(env.getTypeUtils().erasure(type));
+            default:
+                return type.getKind().name().toLowerCase();
+        }
+    }
+
+    private @NotNull String castType(final @NotNull TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return env.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return render(type);
+    }
+
+    private @NotNull String erasedName(final @NotNull TypeMirror type) {
+        return render(env.getTypeUtils().erasure(type));
+    }
+
+    private void call(final @NotNull StringBuilder source, final @NotNull String method, final @NotNull String argument) {
+        source.append("                    .").append(method).append('(').append(argument).append(")\n");
+    }
+
+    private void error(final @NotNull String message, final @NotNull Element element) {
+        failed = true;
+        env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Same conversion as Guava's <code>LOWER_CAMEL</code> to <code>LOWER_HYPHEN</code>, used at runtime.
+     */
+    private static @NotNull String lowerHyphen(final @NotNull String name) {
+        final StringBuilder builder = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            final char character = name.charAt(i);
+            if (character >= 'A' && character <= 'Z') {
+                builder.append('-').append((char) (character | 0x20));
+                continue;
+            }
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+
+    private static @NotNull String @NotNull [] lowerCase(final @NotNull String @NotNull [] values) {
+        return Arrays.stream(values).map(String::toLowerCase).toArray(String[]::new);
+    }
+
+    private static @NotNull String literals(final @NotNull String @NotNull [] values) {
+        return Arrays.stream(values).map(DescriptorWriter::literal).collect(Collectors.joining(", "));
+    }
+
+    private static @NotNull String literal(final @NotNull String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20 || character > 0x7E) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -8,7 +8,10 @@ rootProject.name = "triumph-cmd"
 listOf(
     "core",
     "kotlin-extras",
-    "simple"
+    "simple",
+    "processor",
+    "benchmarks",
+    "load-harness"
 ).forEach(::includeProject)
 
 listOf(
@@ -25,32 +25,31 @@ package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.Command;
-import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
-import dev.triumphteam.cmd.core.message.MessageKey;
-import dev.triumphteam.cmd.core.message.MessageRegistry;
-import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.metrics.DispatchStage;
+import dev.triumphteam.cmd.core.metrics.StageRecorder;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.result.CommandResult;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
 
     private final String name;
 
     private final RegistryContainer<S> registries;
-    private final MessageRegistry<S> messageRegistry;
 
     private final SenderMapper<S, S> senderMapper;
     private final SenderValidator<S> senderValidator;
@@ -58,8 +57,13 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
     private final ExecutionProvider syncExecutionProvider;
     private final ExecutionProvider asyncExecutionProvider;
 
-    private final Map<String, SimpleSubCommand<S>> subCommands = new HashMap<>();
-    private final Map<String, SimpleSubCommand<S>> subCommandAliases = new HashMap<>();
+    private final StageRecorder stageRecorder;
+    private final boolean recordStages;
+
+    private final CommandResult unknownCommand;
+
+    private final SnapshotMap<String, SubCommandHolder<S, SimpleSubCommand<S>>> subCommands = new SnapshotMap<>();
+    private final SnapshotMap<String, SubCommandHolder<S, SimpleSubCommand<S>>> subCommandAliases = new SnapshotMap<>();
 
     @SuppressWarnings("unchecked")
     public SimpleCommand(
@@ -72,74 +76,60 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
         this.senderMapper = processor.getSenderMapper();
         this.senderValidator = processor.getSenderValidator();
         this.registries = processor.getRegistryContainer();
-        this.messageRegistry = registries.getMessageRegistry();
         this.syncExecutionProvider = syncExecutionProvider;
         this.asyncExecutionProvider = asyncExecutionProvider;
+
+        final CommandMetrics metrics = registries.getMetrics();
+        this.recordStages = metrics.isEnabled();
+        this.stageRecorder = metrics.recorder(name, "");
+
+        this.unknownCommand = CommandResult.unknownCommand(name);
     }
 
     // TODO: Comments
-    public void execute(
+    public @NotNull CommandResult execute(
             final @NotNull S sender,
             final @NotNull List<@NotNull String> args
     ) {
-        SimpleSubCommand<S> subCommand = getDefaultSubCommand();
-
         String subCommandName = "";
         if (args.size() > 0) subCommandName = args.get(0).toLowerCase();
-        if (subCommand == null || subCommandExists(subCommandName)) {
-            subCommand = getSubCommand(subCommandName);
-        }
+        final SimpleSubCommand<S> subCommand = getSubCommandOrDefault(subCommandName);
 
+        final long start = recordStages ? System.nanoTime() : 0L;
         final S mappedSender = senderMapper.map(sender);
+        if (recordStages) stageRecorder.record(DispatchStage.SENDER_MAPPING, System.nanoTime() - start);
         if (mappedSender == null) {
-            throw new CommandExecutionException("Invalid sender. Sender mapper returned null");
+            throw new CommandExecutionException("Invalid sender. Sender mapper returned null", registries.isDebug());
         }
 
         if (subCommand == null) {
-            messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, mappedSender, new DefaultMessageContext(name, subCommandName));
-            return;
+            registries.getResultHandler().handle(mappedSender, args, unknownCommand);
+            return unknownCommand;
         }
 
         final List<String> commandArgs = !subCommand.isDefault() ? args.subList(1, args.size()) : args;
-        subCommand.execute(mappedSender, commandArgs);
-    }
-
-    /**
-     * Gets a default command if present.
-     *
-     * @return A default SubCommand.
-     */
-    private @Nullable SimpleSubCommand<S> getDefaultSubCommand() {
-        return subCommands.get(Default.DEFAULT_CMD_NAME);
-    }
-
-    /**
-     * Used in order to search for the given {@link SubCommand<S>} in the {@link #subCommandAliases}
-     *
-     * @param key the String to look for the {@link SubCommand<S>}
-     * @return the {@link SubCommand<S>} for the particular key or NULL
-     */
-    private @Nullable SimpleSubCommand<S> getSubCommand(final @NotNull String key) {
-        final SimpleSubCommand<S> subCommand = subCommands.get(key);
-        if (subCommand != null) return subCommand;
-        return subCommandAliases.get(key);
+        return subCommand.execute(mappedSender, commandArgs);
     }
 
     /**
-     * Checks if a SubCommand with the specified key exists.
+     * Gets the sub command with the given name or alias, falling back to the default one.
+     * Only the returned sub command is built, the others stay untouched.
      *
-     * @param key the Key to check for
-     * @return whether a SubCommand with that key exists
+     * @param key The name or alias typed.
+     * @return The matching sub command, the default one or null if there's neither.
      */
-    private boolean subCommandExists(final @NotNull String key) {
-        return subCommands.containsKey(key) || subCommandAliases.containsKey(key);
+    @Nullable SimpleSubCommand<S> getSubCommandOrDefault(final @NotNull String key) {
+        SubCommandHolder<S, SimpleSubCommand<S>> holder = subCommands.get(key);
+        if (holder == null) holder = subCommandAliases.get(key);
+        if (holder == null) holder = subCommands.get(Default.DEFAULT_CMD_NAME);
+        return holder == null ? null : holder.get();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull SimpleSubCommand<S> subCommand) {
+    public void addSubCommand(final @NotNull String name, final @NotNull SubCommandHolder<S, SimpleSubCommand<S>> subCommand) {
         this.subCommands.put(name, subCommand);
     }
 
@@ -147,7 +137,7 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
      * {@inheritDoc}
      */
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SimpleSubCommand<S> subCommand) {
+    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SubCommandHolder<S, SimpleSubCommand<S>> subCommand) {
         this.subCommandAliases.put(alias, subCommand);
     }
 }
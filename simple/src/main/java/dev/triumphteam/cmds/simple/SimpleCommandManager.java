@@ -25,26 +25,26 @@ package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.SubCommandHolder;
 import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
-import dev.triumphteam.cmd.core.message.MessageKey;
-import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.result.CommandResult;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 
 public final class SimpleCommandManager<S> extends CommandManager<S, S> {
 
-    private final Map<String, SimpleCommand<S>> commands = new HashMap<>();
+    private final SnapshotMap<String, SimpleCommand<S>> commands = new SnapshotMap<>();
 
     private final RegistryContainer<S> registryContainer = new RegistryContainer<>();
 
@@ -68,6 +68,14 @@ public final class SimpleCommandManager<S> extends CommandManager<S, S> {
 
     @Override
     public void registerCommand(final @NotNull BaseCommand baseCommand) {
+        prepareCommand(baseCommand).run();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Runnable prepareCommand(final @NotNull BaseCommand baseCommand) {
         final SimpleCommandProcessor<S> processor = new SimpleCommandProcessor<>(
                 baseCommand,
                 getRegistryContainer(),
@@ -78,21 +86,25 @@ public final class SimpleCommandManager<S> extends CommandManager<S, S> {
         );
 
         final String name = processor.getName();
+        // Built once and shared by the command and all of its aliases
+        final List<SubCommandHolder<S, SimpleSubCommand<S>>> subCommands = processor.createSubCommands();
 
-        final SimpleCommand<S> command = commands.computeIfAbsent(
-                name,
-                ignored -> new SimpleCommand<>(processor, syncExecutionProvider, asyncExecutionProvider)
-        );
-        processor.addSubCommands(command);
-
-        processor.getAlias().forEach(it -> {
-            final SimpleCommand<S> aliasCommand = commands.computeIfAbsent(
-                    it,
+        return () -> {
+            final SimpleCommand<S> command = commands.computeIfAbsent(
+                    name,
                     ignored -> new SimpleCommand<>(processor, syncExecutionProvider, asyncExecutionProvider)
             );
-            // Adding sub commands.
-            processor.addSubCommands(aliasCommand);
-        });
+            processor.addSubCommands(command, subCommands);
+
+            processor.getAlias().forEach(it -> {
+                final SimpleCommand<S> aliasCommand = commands.computeIfAbsent(
+                        it,
+                        ignored -> new SimpleCommand<>(processor, syncExecutionProvider, asyncExecutionProvider)
+                );
+                // Adding sub commands.
+                processor.addSubCommands(aliasCommand, subCommands);
+            });
+        };
     }
 
     /**
@@ -108,26 +120,34 @@ public final class SimpleCommandManager<S> extends CommandManager<S, S> {
         // TODO add a remove functionality
     }
 
+    /**
+     * Gets the command registered under the given name or alias.
+     *
+     * @param name The name or alias of the command.
+     * @return The command or null if there's none with that name.
+     */
+    @Nullable SimpleCommand<S> getCommand(final @NotNull String name) {
+        return commands.get(name);
+    }
+
     /**
      * Execute the commands given the passed arguments.
      *
      * @param sender The provided sender.
      * @param args   The provided arguments.
+     * @return The result of the execution.
      */
-    public void executeCommand(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
-        if (args.isEmpty()) return;
-        final String commandName = args.get(0);
+    public @NotNull CommandResult executeCommand(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
+        if (args.isEmpty()) return CommandResult.unknownCommand();
 
-        final SimpleCommand<S> command = commands.get(commandName);
+        final SimpleCommand<S> command = commands.get(args.get(0));
         if (command == null) {
-            registryContainer.getMessageRegistry().sendMessage(
-                    MessageKey.UNKNOWN_COMMAND,
-                    sender,
-                    new DefaultMessageContext(commandName, "")
-            );
-            return;
+            // Shared result, the handler reads the unknown command name from the arguments
+            final CommandResult result = CommandResult.unknownCommand();
+            registryContainer.getResultHandler().handle(sender, args, result);
+            return result;
         }
 
-        command.execute(sender, args.subList(1, args.size()));
+        return command.execute(sender, args.subList(1, args.size()));
     }
 }
@@ -24,6 +24,7 @@
 package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.descriptor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
@@ -31,8 +32,6 @@ import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-
 public final class SimpleCommandProcessor<S> extends AbstractCommandProcessor<S, S, SimpleSubCommand<S>, SimpleSubCommandProcessor<S>> {
 
     public SimpleCommandProcessor(
@@ -50,11 +49,11 @@ public final class SimpleCommandProcessor<S> extends AbstractCommandProcessor<S,
      * {@inheritDoc}
      */
     @Override
-    protected @NotNull SimpleSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull SimpleSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new SimpleSubCommandProcessor<S>(
                 getBaseCommand(),
-                method.getName(),
-                method,
+                descriptor.getMethodName(),
+                descriptor,
                 getRegistryContainer(),
                 getSenderValidator()
         );
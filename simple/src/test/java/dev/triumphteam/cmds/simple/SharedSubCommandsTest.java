@@ -0,0 +1,113 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmds.simple;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.sender.SenderValidator;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SharedSubCommandsTest {
+
+    private static final List<String> ALIASES = Arrays.asList("alias", "other");
+
+    @Test
+    void aliasesShareSubCommandInstances() {
+        final SimpleCommandManager<String> manager = createManager();
+        manager.registerCommand(new TestCommand());
+
+        assertSharedSubCommands(manager);
+        assertEquals(2, manager.getRegistrationReport().getSubCommands());
+    }
+
+    @Test
+    void aliasesShareLazySubCommandInstances() {
+        final SimpleCommandManager<String> manager = createManager();
+        manager.setLazySubCommands(true);
+        manager.registerCommand(new TestCommand());
+        assertEquals(0, manager.getRegistrationReport().getSubCommands());
+
+        assertSharedSubCommands(manager);
+        assertEquals(2, manager.getRegistrationReport().getSubCommands());
+    }
+
+    private static void assertSharedSubCommands(final @NotNull SimpleCommandManager<String> manager) {
+        final SimpleCommand<String> command = manager.getCommand("test");
+        assertNotNull(command);
+        final SimpleSubCommand<String> first = command.getSubCommandOrDefault("first");
+        final SimpleSubCommand<String> second = command.getSubCommandOrDefault("second");
+        assertNotNull(first);
+        assertNotNull(second);
+
+        for (final String alias : ALIASES) {
+            final SimpleCommand<String> aliasCommand = manager.getCommand(alias);
+            assertNotNull(aliasCommand);
+            assertSame(first, aliasCommand.getSubCommandOrDefault("first"));
+            assertSame(second, aliasCommand.getSubCommandOrDefault("second"));
+        }
+    }
+
+    private static @NotNull SimpleCommandManager<String> createManager() {
+        return SimpleCommandManager.create(sender -> sender, new TestSenderValidator());
+    }
+
+    @Command(value = "test", alias = {"alias", "other"})
+    public static final class TestCommand extends BaseCommand {
+
+        @dev.triumphteam.cmd.core.annotation.SubCommand("first")
+        public void first(final String sender) {}
+
+        @dev.triumphteam.cmd.core.annotation.SubCommand("second")
+        public void second(final String sender) {}
+    }
+
+    private static final class TestSenderValidator implements SenderValidator<String> {
+
+        @Override
+        public @NotNull Set<Class<? extends String>> getAllowedSenders() {
+            return Collections.singleton(String.class);
+        }
+
+        @Override
+        public boolean validate(
+                final @NotNull MessageRegistry<String> messageRegistry,
+                final @NotNull SubCommand<String> subCommand,
+                final @NotNull String sender
+        ) {
+            return true;
+        }
+    }
+}